@@ -0,0 +1,59 @@
+package com.nurbb.taskmanagerapp.config;
+
+import com.nurbb.taskmanagerapp.repository.ReactiveTaskRepository;
+import com.nurbb.taskmanagerapp.repository.TaskRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.ReactiveTransactionManager;
+
+// JPA ve R2DBC aynı uygulamada çalışıyor.
+// Classpath'te R2DBC ConnectionFactory varken Spring Boot JDBC DataSource'u otomatik oluşturmaz,
+// bu yüzden DataSource "spring.datasource.*" ayarlarından burada açıkça kurulur.
+// Transaction manager'lar da açıkça tanımlanır; @Transactional varsayılan olarak JPA olanı kullanır.
+// Task hem JPA hem R2DBC entity'si olduğundan JPA taramasından reactive repository hariç tutulur.
+
+@Configuration
+@EnableJpaRepositories(
+        basePackageClasses = TaskRepository.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ReactiveTaskRepository.class))
+public class PersistenceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @Bean
+    public ReactiveTransactionManager reactiveTransactionManager(ConnectionFactory connectionFactory) {
+        return new R2dbcTransactionManager(connectionFactory);
+    }
+}
@@ -0,0 +1,123 @@
+package com.nurbb.taskmanagerapp.config;
+
+import com.nurbb.taskmanagerapp.model.entity.Task;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+// TaskService ve ReactiveTaskService'in tüm public metotları "task.service" timer'ı ile ölçülür.
+// Tag'ler: class, method, outcome (SUCCESS / ERROR / CANCELLED), exception, status.
+// status: metodun Task.TaskStatus argümanı (updateTaskStatus, getTasksByStatus ...), yoksa "none".
+// Enum olduğu için kardinalite sınırlıdır; id / başlık gibi sınırsız argümanlar tag'e konmaz.
+// Mono / Flux dönen metotlarda süre metot çağrısı değil, subscribe'dan sinyal bitene kadar ölçülür;
+// CompletableFuture dönenlerde future tamamlanana kadar.
+// Percentile / histogram ayarları application.properties'te (management.metrics.distribution.*).
+// Timer'lar tag kombinasyonu başına bir kez register edilir ve saklanır; her çağrıda builder / registry araması yapılmaz.
+
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    static final String METRIC_NAME = "task.service";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.nurbb.taskmanagerapp.service.TaskService.*(..))"
+            + " || execution(public * com.nurbb.taskmanagerapp.service.ReactiveTaskService.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+        String status = statusTag(joinPoint.getArgs());
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            stop(sample, className, methodName, status, "ERROR", e);
+            throw e;
+        }
+
+        if (result instanceof Mono<?> mono) {
+            return Mono.defer(() -> {
+                Timer.Sample subscribed = Timer.start(meterRegistry);
+                return mono.doOnError(e -> stop(subscribed, className, methodName, status, "ERROR", e))
+                        .doFinally(signal -> {
+                            if (signal != SignalType.ON_ERROR) {
+                                stop(subscribed, className, methodName, status, outcome(signal), null);
+                            }
+                        });
+            });
+        }
+        if (result instanceof Flux<?> flux) {
+            return Flux.defer(() -> {
+                Timer.Sample subscribed = Timer.start(meterRegistry);
+                return flux.doOnError(e -> stop(subscribed, className, methodName, status, "ERROR", e))
+                        .doFinally(signal -> {
+                            if (signal != SignalType.ON_ERROR) {
+                                stop(subscribed, className, methodName, status, outcome(signal), null);
+                            }
+                        });
+            });
+        }
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, e) ->
+                    stop(sample, className, methodName, status, e == null ? "SUCCESS" : "ERROR", e));
+            return result;
+        }
+
+        stop(sample, className, methodName, status, "SUCCESS", null);
+        return result;
+    }
+
+    private static String statusTag(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof Task.TaskStatus status) {
+                return status.name();
+            }
+        }
+        return "none";
+    }
+
+    private static String outcome(SignalType signal) {
+        return signal == SignalType.CANCEL ? "CANCELLED" : "SUCCESS";
+    }
+
+    private void stop(Timer.Sample sample, String className, String methodName, String status, String outcome,
+                      Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+        TimerKey key = new TimerKey(className, methodName, status, outcome,
+                cause == null ? "none" : cause.getClass().getSimpleName());
+        sample.stop(timers.computeIfAbsent(key, this::register));
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(METRIC_NAME)
+                .description("TaskService / ReactiveTaskService method latency")
+                .tag("class", key.className())
+                .tag("method", key.methodName())
+                .tag("status", key.status())
+                .tag("outcome", key.outcome())
+                .tag("exception", key.exception())
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String className, String methodName, String status, String outcome, String exception) {}
+}
@@ -0,0 +1,147 @@
+package com.nurbb.taskmanagerapp.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// DataSource proxy'sinin dinleyicisi: çalışan her ifade, o thread'de açık olan tüm kayıtlara yazılır.
+// Kayıtlar iç içe açılabilir (ör. test içinde start() + filter'ın istek kaydı), her biri kendi sayaçlarını tutar.
+// Kayıt thread'e bağlıdır; başka bir thread'e (async executor, StreamingResponseBody) devredilen SQL sayılmaz.
+//
+// Testte kullanım:
+//   try (SqlStatementMonitor.Recording recording = sqlStatementMonitor.start()) {
+//       mockMvc.perform(get("/tasks/statistics"));
+//       assertThat(recording.statistics().statementCount()).isLessThanOrEqualTo(1);
+//   }
+
+@Component
+public class SqlStatementMonitor implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String START_NANOS = "sqlMonitor.startNanos";
+
+    private final ThreadLocal<Deque<Recording>> recordings = ThreadLocal.withInitial(ArrayDeque::new);
+    private final int maxStatements;
+    private final Duration maxDatabaseTime;
+    private final Duration slowStatement;
+    private final int repeatedStatementThreshold;
+
+    public SqlStatementMonitor(
+            @Value("${task.sql-monitor.max-statements:20}") int maxStatements,
+            @Value("${task.sql-monitor.max-db-time:PT0.5S}") Duration maxDatabaseTime,
+            @Value("${task.sql-monitor.slow-statement:PT0.2S}") Duration slowStatement,
+            @Value("${task.sql-monitor.repeated-statement-threshold:5}") int repeatedStatementThreshold) {
+        this.maxStatements = maxStatements;
+        this.maxDatabaseTime = maxDatabaseTime;
+        this.slowStatement = slowStatement;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    public Recording start() {
+        Recording recording = new Recording();
+        recordings.get().push(recording);
+        return recording;
+    }
+
+    // Eşik aşımlarının açıklaması; boş liste = sorun yok
+    public List<String> violations(SqlStatistics statistics) {
+        List<String> violations = new ArrayList<>();
+        if (statistics.statementCount() > maxStatements) {
+            violations.add(statistics.statementCount() + " statements (max " + maxStatements + ")");
+        }
+        if (statistics.databaseTime().compareTo(maxDatabaseTime) > 0) {
+            violations.add("database time " + statistics.databaseTime().toMillis() + " ms (max " + maxDatabaseTime.toMillis() + " ms)");
+        }
+        if (statistics.slowestStatement().compareTo(slowStatement) > 0) {
+            violations.add("slow statement " + statistics.slowestStatement().toMillis() + " ms (max " + slowStatement.toMillis() + " ms)");
+        }
+        statistics.statementCounts().forEach((sql, count) -> {
+            if (count >= repeatedStatementThreshold) {
+                violations.add("repeated " + count + "x: " + sql);
+            }
+        });
+        return violations;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        executionInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        Deque<Recording> active = recordings.get();
+        if (active.isEmpty()) {
+            return;
+        }
+        Long startNanos = executionInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsedNanos = startNanos == null
+                ? Duration.ofMillis(executionInfo.getElapsedTime()).toNanos()
+                : System.nanoTime() - startNanos;
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.getFirst().getQuery();
+        for (Recording recording : active) {
+            recording.onStatement(sql, elapsedNanos);
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    // Okunan satırlar ResultSet.next() == true çağrılarından sayılır
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            for (Recording recording : recordings.get()) {
+                recording.rowsFetched++;
+            }
+        }
+    }
+
+    public final class Recording implements AutoCloseable {
+
+        private int statementCount;
+        private long databaseNanos;
+        private long slowestNanos;
+        private long rowsFetched;
+        private final Map<String, Integer> statementCounts = new LinkedHashMap<>();
+
+        private Recording() {
+        }
+
+        private void onStatement(String sql, long elapsedNanos) {
+            statementCount++;
+            databaseNanos += elapsedNanos;
+            slowestNanos = Math.max(slowestNanos, elapsedNanos);
+            statementCounts.merge(sql, 1, Integer::sum);
+        }
+
+        public SqlStatistics statistics() {
+            return new SqlStatistics(statementCount, Duration.ofNanos(databaseNanos), rowsFetched,
+                    Duration.ofNanos(slowestNanos), Map.copyOf(statementCounts));
+        }
+
+        @Override
+        public void close() {
+            Deque<Recording> active = recordings.get();
+            active.remove(this);
+            if (active.isEmpty()) {
+                recordings.remove();
+            }
+        }
+    }
+}
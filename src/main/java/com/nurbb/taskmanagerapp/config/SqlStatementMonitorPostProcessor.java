@@ -0,0 +1,36 @@
+package com.nurbb.taskmanagerapp.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// JDBC DataSource'u datasource-proxy ile sarar; tüm JPA / JDBC ifadeleri SqlStatementMonitor'dan geçer.
+// Hikari metrikleri unwrap() ile asıl havuza ulaşmaya devam eder.
+
+@Component
+public class SqlStatementMonitorPostProcessor implements BeanPostProcessor {
+
+    // Monitor, BeanPostProcessor'ın erken oluşturulması sırasında değil DataSource sarılırken çözülür
+    private final ObjectProvider<SqlStatementMonitor> monitor;
+
+    public SqlStatementMonitorPostProcessor(ObjectProvider<SqlStatementMonitor> monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        SqlStatementMonitor sqlStatementMonitor = monitor.getObject();
+        return ProxyDataSourceBuilder.create(beanName, dataSource)
+                .listener(sqlStatementMonitor)
+                .methodListener(sqlStatementMonitor)
+                .proxyResultSet()
+                .build();
+    }
+}
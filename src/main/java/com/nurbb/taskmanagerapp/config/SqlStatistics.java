@@ -0,0 +1,20 @@
+package com.nurbb.taskmanagerapp.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+// Bir kayıt (HTTP isteği ya da SqlStatementMonitor.start() bloğu) süresince çalışan JDBC ifadelerinin özeti.
+// statementCounts: SQL metni -> çalıştırılma sayısı. Aynı metnin defalarca çalışması genelde N+1 işaretidir.
+// JDBC batch (executeBatch) tek ifade sayılır.
+
+public record SqlStatistics(
+        int statementCount,
+        Duration databaseTime,
+        long rowsFetched,
+        Duration slowestStatement,
+        Map<String, Integer> statementCounts
+) {
+    public int maxRepeatCount() {
+        return statementCounts.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+}
@@ -0,0 +1,65 @@
+package com.nurbb.taskmanagerapp.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+// Her HTTP isteğinin çalıştırdığı SQL ifadelerini sayar. Eşikleri aşan istekler (ifade sayısı, toplam DB süresi,
+// yavaş ifade, aynı SQL'in tekrar tekrar çalışması) WARN ile loglanır.
+// İfade sayısı ve satır sayısı "sql.request.statements" / "sql.request.rows" metriği olarak URI şablonuyla yazılır.
+
+@Slf4j
+@Component
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlStatementMonitor sqlStatementMonitor;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatisticsFilter(SqlStatementMonitor sqlStatementMonitor, MeterRegistry meterRegistry) {
+        this.sqlStatementMonitor = sqlStatementMonitor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (SqlStatementMonitor.Recording recording = sqlStatementMonitor.start()) {
+            filterChain.doFilter(request, response);
+
+            SqlStatistics statistics = recording.statistics();
+            if (statistics.statementCount() == 0) {
+                return;
+            }
+            // Handler'a ulaşmayan istekler (401, 404) için şablon yoktur; actuator'daki gibi UNKNOWN yazılır
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+            summary("sql.request.statements", uri, request.getMethod()).record(statistics.statementCount());
+            summary("sql.request.rows", uri, request.getMethod()).record(statistics.rowsFetched());
+
+            List<String> violations = sqlStatementMonitor.violations(statistics);
+            if (!violations.isEmpty()) {
+                log.warn("{} {} ran {} SQL statements in {} ms: {}", request.getMethod(), request.getRequestURI(),
+                        statistics.statementCount(), statistics.databaseTime().toMillis(), violations);
+            }
+        }
+    }
+
+    private DistributionSummary summary(String name, String uri, String method) {
+        return DistributionSummary.builder(name)
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(meterRegistry);
+    }
+}
@@ -2,12 +2,15 @@ package com.nurbb.taskmanagerapp.controller;
 
 import com.nurbb.taskmanagerapp.model.dto.request.StatusUpdateRequest;
 import com.nurbb.taskmanagerapp.model.dto.request.TaskRequest;
+import com.nurbb.taskmanagerapp.model.dto.response.TaskChangeEvent;
 import com.nurbb.taskmanagerapp.model.entity.Task;
 import com.nurbb.taskmanagerapp.model.exception.TaskNotFoundException;
 import com.nurbb.taskmanagerapp.service.ReactiveTaskService;
+import com.nurbb.taskmanagerapp.service.TaskChangeFeed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -19,10 +22,12 @@ import java.util.UUID;
 public class ReactiveTaskController {
 
     private final ReactiveTaskService taskService;
+    private final TaskChangeFeed taskChangeFeed;
 
     @Autowired
-    public ReactiveTaskController(ReactiveTaskService taskService) {
+    public ReactiveTaskController(ReactiveTaskService taskService, TaskChangeFeed taskChangeFeed) {
         this.taskService = taskService;
+        this.taskChangeFeed = taskChangeFeed;
     }
 
     @PostMapping
@@ -31,6 +36,15 @@ public class ReactiveTaskController {
         return taskService.createTask(request.getTitle(),request.getDescription());
     }
 
+    // /tasks/changes ile aynı akış: iki API'deki değişiklikler tek bir feed'de birleşir
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<TaskChangeEvent>> streamTaskChanges(
+            @RequestHeader(value = TaskChangeStreams.LAST_EVENT_ID, required = false) String lastEventId,
+            @RequestParam(required = false) Long since) {
+        return TaskChangeStreams.toServerSentEvents(
+                taskChangeFeed.subscribe(TaskChangeStreams.resumeFrom(lastEventId, since)));
+    }
+
     @GetMapping("/{id}")
     public Mono<Task> getTaskById(@PathVariable UUID id) {
         return taskService.getTaskById(id)
@@ -0,0 +1,42 @@
+package com.nurbb.taskmanagerapp.controller;
+
+import com.nurbb.taskmanagerapp.model.dto.response.TaskChangeEvent;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+// /tasks/changes ve /api/reactive/tasks/changes aynı SSE formatını kullanır:
+// id = sequence (istemci yeniden bağlanırken Last-Event-ID olarak geri gönderir), event = değişiklik türü.
+// Değişiklik olmadığında proxy'lerin bağlantıyı kapatmaması için periyodik yorum satırı gönderilir.
+
+final class TaskChangeStreams {
+
+    static final String LAST_EVENT_ID = "Last-Event-ID";
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    private TaskChangeStreams() {
+    }
+
+    // Last-Event-ID header'ı yoksa ?since= parametresi kullanılır; ikisi de yoksa yalnızca yeni değişiklikler gelir
+    static Long resumeFrom(String lastEventId, Long since) {
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                return Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                return since; // bu feed'e ait olmayan bir id
+            }
+        }
+        return since;
+    }
+
+    static Flux<ServerSentEvent<TaskChangeEvent>> toServerSentEvents(Flux<TaskChangeEvent> changes) {
+        Flux<ServerSentEvent<TaskChangeEvent>> events = changes.map(change -> ServerSentEvent.builder(change)
+                .id(Long.toString(change.sequence()))
+                .event(change.type().name())
+                .build());
+        Flux<ServerSentEvent<TaskChangeEvent>> heartbeats = Flux.interval(HEARTBEAT_INTERVAL)
+                .map(tick -> ServerSentEvent.<TaskChangeEvent>builder().comment("heartbeat").build());
+        return Flux.merge(events, heartbeats);
+    }
+}
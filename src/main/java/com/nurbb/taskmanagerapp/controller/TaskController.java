@@ -1,21 +1,37 @@
 package com.nurbb.taskmanagerapp.controller;
 
 
+import com.nurbb.taskmanagerapp.model.dto.request.BulkStatusUpdateRequest;
 import com.nurbb.taskmanagerapp.model.dto.request.PriorityUpdateRequest;
 import com.nurbb.taskmanagerapp.model.dto.request.StatusUpdateRequest;
 import com.nurbb.taskmanagerapp.model.dto.request.TaskRequest;
+import com.nurbb.taskmanagerapp.model.dto.response.TaskBatchResponse;
+import com.nurbb.taskmanagerapp.model.dto.response.TaskCacheStatistics;
+import com.nurbb.taskmanagerapp.model.dto.response.TaskChangeEvent;
+import com.nurbb.taskmanagerapp.model.dto.response.TaskEventListenerStatistics;
+import com.nurbb.taskmanagerapp.model.dto.response.TaskPage;
 import com.nurbb.taskmanagerapp.model.dto.response.TaskResponseDTO;
 import com.nurbb.taskmanagerapp.model.dto.response.TaskStatistics;
 import com.nurbb.taskmanagerapp.model.entity.Task;
+import com.nurbb.taskmanagerapp.model.projection.TaskSummary;
+import com.nurbb.taskmanagerapp.service.TaskChangeFeed;
+import com.nurbb.taskmanagerapp.service.TaskClaimQueue;
+import com.nurbb.taskmanagerapp.service.TaskExportService;
 import com.nurbb.taskmanagerapp.service.TaskService;
 import com.nurbb.taskmanagerapp.model.exception.TaskStatusNotAvailableException;
+import com.nurbb.taskmanagerapp.model.exception.TaskVersionConflictException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -30,13 +46,20 @@ import java.util.concurrent.CompletableFuture;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskChangeFeed taskChangeFeed;
+    private final TaskClaimQueue taskClaimQueue;
 
     //Constructor - based dependency injection örneğidir.
     // Task service sınıfı controllera inject edilmiştir.
 
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskExportService taskExportService, TaskChangeFeed taskChangeFeed,
+                          TaskClaimQueue taskClaimQueue) {
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
+        this.taskChangeFeed = taskChangeFeed;
+        this.taskClaimQueue = taskClaimQueue;
     }
 
     @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -50,11 +73,64 @@ public class TaskController {
         return new ResponseEntity<>(newTask, HttpStatus.CREATED);
     }
 
+    //Binlerce görev tek istekte, parça parça batch insert ile oluşturulur
+    //Bir parça yazılamazsa commit edilen id'ler ve failedIndex döner: bir kısmı yazıldıysa 207, hiçbiri yazılmadıysa 500
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<TaskBatchResponse> createTasks(@RequestBody List<TaskRequest> requests) {
+        try {
+            TaskBatchResponse result = taskService.createTasks(requests);
+            if (result.isComplete()) {
+                return new ResponseEntity<>(result, HttpStatus.CREATED);
+            }
+            return new ResponseEntity<>(result, result.created() > 0 ? HttpStatus.MULTI_STATUS : HttpStatus.INTERNAL_SERVER_ERROR);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping
 
-    //Birden fazla entity gelecek List lazım bundan dönüş tipi list
-    public ResponseEntity<List<TaskResponseDTO>> getAllTasks() {
-        return ResponseEntity.status(HttpStatus.OK).body(taskService.getAllTasks());
+    //Birden fazla entity gelecek, tablo büyüyebileceği için cursor ile sayfa sayfa dönülür
+    public ResponseEntity<TaskPage> getAllTasks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.status(HttpStatus.OK).body(taskService.getAllTasks(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    //Tüm tablo bellekte toplanmadan, satır satır response output stream'ine yazılır (NDJSON veya CSV)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "ndjson") String format) {
+        TaskExportService.ExportFormat exportFormat;
+        try {
+            exportFormat = TaskExportService.ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        MediaType contentType = exportFormat == TaskExportService.ExportFormat.CSV
+                ? MediaType.parseMediaType("text/csv")
+                : MediaType.parseMediaType("application/x-ndjson");
+        StreamingResponseBody body = out -> taskExportService.exportTasks(exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=tasks." + exportFormat.name().toLowerCase(Locale.ROOT))
+                .body(body);
+    }
+
+    //Tüm listeyi tekrar tekrar çekmek yerine yalnızca değişiklikler (create / status / delete) SSE ile gelir.
+    //Bağlantı koparsa tarayıcı Last-Event-ID header'ı ile kaldığı yerden devam eder
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<TaskChangeEvent>> streamTaskChanges(
+            @RequestHeader(value = TaskChangeStreams.LAST_EVENT_ID, required = false) String lastEventId,
+            @RequestParam(required = false) Long since) {
+        return TaskChangeStreams.toServerSentEvents(
+                taskChangeFeed.subscribe(TaskChangeStreams.resumeFrom(lastEventId, since)));
     }
 
     @GetMapping("/{id}")
@@ -73,12 +149,36 @@ public class TaskController {
             @PathVariable UUID id,
             @RequestBody StatusUpdateRequest request) {
         try {
-            Task updatedTask = taskService.updateTaskStatus(id, request.getStatus());
+            Task updatedTask = taskService.updateTaskStatus(id, request.getStatus(), request.getVersion());
             return ResponseEntity.ok(updatedTask);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         } catch (TaskStatusNotAvailableException ex) {
             return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+        } catch (TaskVersionConflictException ex) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    //Birden fazla görevin status'u tek SQL ile değiştirilir, gerçekten değişen id'ler döner
+    @PatchMapping("/status")
+    public ResponseEntity<List<UUID>> updateTaskStatuses(@RequestBody BulkStatusUpdateRequest request) {
+        try {
+            return ResponseEntity.ok(taskService.updateTaskStatuses(request.ids(), request.status()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    //Worker'lar için: en eski PENDING görevlerden count kadarı atomik olarak IN_PROGRESS yapılıp döner.
+    //Eşzamanlı çağrılar aynı görevi almaz; görev kalmadıysa boş liste döner.
+    @PostMapping("/claims")
+    public ResponseEntity<List<TaskSummary>> claimTasks(
+            @RequestParam(defaultValue = "1") int count) {
+        try {
+            return ResponseEntity.ok(taskClaimQueue.claim(count));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
     }
 
@@ -91,8 +191,15 @@ public class TaskController {
 
 
     @GetMapping("/status/{status}")
-    public  ResponseEntity<List<TaskResponseDTO>> getTasksByStatus(@PathVariable Task.TaskStatus status) {
-        return ResponseEntity.ok(taskService.getTasksByStatus(status));
+    public  ResponseEntity<TaskPage> getTasksByStatus(
+            @PathVariable Task.TaskStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(taskService.getTasksByStatus(status, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/title/{title}")
@@ -102,11 +209,34 @@ public class TaskController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskResponseDTO>> searchTasksByTitle(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(taskService.searchTasksByTitle(query, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/statistics")
     public ResponseEntity<TaskStatistics> getTaskStatistics() {
         return ResponseEntity.ok(taskService.getTaskStatistics());
     }
 
+    @GetMapping("/cache/statistics")
+    public ResponseEntity<TaskCacheStatistics> getTaskCacheStatistics() {
+        return ResponseEntity.ok(taskService.getTaskCacheStatistics());
+    }
+
+    //Her listener için yayınlanan / işlenen / atılan olay sayıları ve bekleyen olay (lag)
+    @GetMapping("/events/statistics")
+    public ResponseEntity<List<TaskEventListenerStatistics>> getTaskEventStatistics() {
+        return ResponseEntity.ok(taskService.getTaskEventStatistics());
+    }
+
     @GetMapping("/report")
     public ResponseEntity<String> generateReport() {
         return ResponseEntity.ok(taskService.generateTaskReport());
@@ -114,14 +244,25 @@ public class TaskController {
 
 //Asenkron non-blocking biçimde getirmek için sistem performansı arttırmak için.Dar boğazın önüne geçilir.
     @GetMapping("/async")
-    public CompletableFuture<ResponseEntity<List<TaskResponseDTO>>> getTasksAsync() {
-        return taskService.getTasksAsync()
-                .thenApply(ResponseEntity::ok);
+    public CompletableFuture<ResponseEntity<TaskPage>> getTasksAsync(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return taskService.getTasksAsync(cursor, size)
+                    .thenApply(ResponseEntity::ok);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().build());
+        }
     }
 
     @GetMapping("/group-by-status")
-    public ResponseEntity<Map<Task.TaskStatus, List<TaskResponseDTO>>> groupTasksByStatus() {
-        return ResponseEntity.ok(taskService.groupTasksByStatus());
+    public ResponseEntity<Map<Task.TaskStatus, TaskPage>> groupTasksByStatus(
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(taskService.groupTasksByStatus(size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @PostMapping("/analyze-durations")
@@ -162,13 +303,8 @@ public class TaskController {
             @PathVariable UUID id,
             @RequestBody PriorityUpdateRequest request) {
         try {
-            // Convert string or int to TaskPriority object based on request
-            Task.Priority priority = switch(request.value()) {
-                case 1 -> new Task.LowPriority();
-                case 2 -> new Task.MediumPriority();
-                case 3 -> new Task.HighPriority();
-                default -> throw new IllegalArgumentException("Invalid priority value");
-            };
+            // Convert int to the shared TaskPriority instance based on request
+            Task.Priority priority = Task.Priority.of(request.value());
 
             Task updatedTask = taskService.updateTaskPriority(id, priority);
             return ResponseEntity.ok(updatedTask);
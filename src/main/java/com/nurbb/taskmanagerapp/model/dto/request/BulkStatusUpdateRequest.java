@@ -0,0 +1,11 @@
+package com.nurbb.taskmanagerapp.model.dto.request;
+
+import com.nurbb.taskmanagerapp.model.entity.Task;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkStatusUpdateRequest(
+        List<UUID> ids,
+        Task.TaskStatus status
+) {}
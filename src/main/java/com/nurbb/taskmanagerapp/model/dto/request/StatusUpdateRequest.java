@@ -5,6 +5,8 @@ import com.nurbb.taskmanagerapp.model.entity.Task;
 public class StatusUpdateRequest {
 
    private Task.TaskStatus status;
+   // İsteğe bağlı: verilirse görev yalnızca bu version'daysa güncellenir (optimistic concurrency)
+   private Long version;
 
    public Task.TaskStatus getStatus() {
        return status;
@@ -12,4 +14,10 @@ public class StatusUpdateRequest {
    public void setStatus(Task.TaskStatus status) {
        this.status = status;
    }
+   public Long getVersion() {
+       return version;
+   }
+   public void setVersion(Long version) {
+       this.version = version;
+   }
 }
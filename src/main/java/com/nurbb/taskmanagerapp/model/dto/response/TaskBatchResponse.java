@@ -0,0 +1,26 @@
+package com.nurbb.taskmanagerapp.model.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+// Toplu oluşturma sonucu. Parçalar ayrı transaction'larda commit edilir; bir parça hata verirse
+// ids yalnızca commit edilmiş görevleri içerir, failedIndex yazılamayan ilk isteğin sırasıdır.
+// İstemci yeniden denerken yalnızca failedIndex'ten sonrasını gönderir (tam istek tekrar gönderilirse kopyalar oluşur).
+public record TaskBatchResponse(
+        int created,
+        List<UUID> ids,
+        Integer failedIndex,
+        String error
+) {
+    public static TaskBatchResponse completed(List<UUID> ids) {
+        return new TaskBatchResponse(ids.size(), ids, null, null);
+    }
+
+    public static TaskBatchResponse failedAt(List<UUID> committedIds, int failedIndex, String error) {
+        return new TaskBatchResponse(committedIds.size(), committedIds, failedIndex, error);
+    }
+
+    public boolean isComplete() {
+        return failedIndex == null;
+    }
+}
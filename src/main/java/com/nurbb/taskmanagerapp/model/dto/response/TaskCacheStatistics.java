@@ -0,0 +1,9 @@
+package com.nurbb.taskmanagerapp.model.dto.response;
+
+public record TaskCacheStatistics(
+        long size,
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        double hitRate
+) {}
@@ -0,0 +1,26 @@
+package com.nurbb.taskmanagerapp.model.dto.response;
+
+import com.nurbb.taskmanagerapp.model.entity.Task;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Change feed'deki tek bir değişiklik. sequence node içinde artan sıradır ve SSE event id'si olarak gönderilir;
+// yeniden bağlanan istemci Last-Event-ID ile kaldığı yerden devam eder.
+// RESYNC_REQUIRED: istenen sequence artık geçmişte tutulmuyor, istemci listeyi baştan yüklemelidir.
+
+public record TaskChangeEvent(
+        long sequence,
+        ChangeType type,
+        UUID taskId,
+        Task.TaskStatus status,
+        Task.TaskStatus previousStatus,
+        LocalDateTime occurredAt
+) {
+    public enum ChangeType {
+        CREATED,
+        STATUS_CHANGED,
+        DELETED,
+        RESYNC_REQUIRED
+    }
+}
@@ -0,0 +1,12 @@
+package com.nurbb.taskmanagerapp.model.dto.response;
+
+public record TaskEventListenerStatistics(
+        String channel,
+        String listener,
+        long published,
+        long delivered,
+        long failed,
+        long dropped,
+        long spilled,
+        long lag
+) {}
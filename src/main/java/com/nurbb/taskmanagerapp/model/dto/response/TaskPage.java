@@ -0,0 +1,11 @@
+package com.nurbb.taskmanagerapp.model.dto.response;
+
+import com.nurbb.taskmanagerapp.model.projection.TaskSummary;
+
+import java.util.List;
+
+// nextCursor null ise son sayfaya gelinmiştir. Liste satırlarında description yoktur, detay GET /tasks/{id} ile alınır
+public record TaskPage(
+        List<TaskSummary> items,
+        String nextCursor
+) {}
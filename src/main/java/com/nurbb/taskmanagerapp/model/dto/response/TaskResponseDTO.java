@@ -5,11 +5,15 @@ import com.nurbb.taskmanagerapp.model.entity.Task;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+// version: optimistic locking sürümü. İstemci PATCH /tasks/{id}/status isteğinde geri gönderirse
+// görev arada değiştiyse güncelleme 409 ile reddedilir.
+
 public record TaskResponseDTO(
         UUID id,
         String title,
         String description,
         Task.TaskStatus status,
         LocalDateTime createdAt,
-        Task.Priority priority
+        Task.Priority priority,
+        Long version
 ) {}
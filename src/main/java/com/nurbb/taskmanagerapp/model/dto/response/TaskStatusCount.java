@@ -0,0 +1,9 @@
+package com.nurbb.taskmanagerapp.model.dto.response;
+
+import com.nurbb.taskmanagerapp.model.entity.Task;
+
+// GROUP BY status sorgusunun satırı; JPQL constructor expression ile doğrudan oluşturulur
+public record TaskStatusCount(
+        Task.TaskStatus status,
+        long count
+) {}
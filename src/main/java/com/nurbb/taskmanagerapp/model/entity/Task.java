@@ -1,13 +1,17 @@
 package com.nurbb.taskmanagerapp.model.entity;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.nurbb.taskmanagerapp.model.mapper.PriorityJsonSerializer;
 import jakarta.persistence.*;
 import  lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+// Aynı entity hem JPA (/tasks) hem de R2DBC (/api/reactive/tasks) tarafından aynı "tasks" tablosuna eşlenir
 @Entity
 @Table(name = "tasks")
+@org.springframework.data.relational.core.mapping.Table("tasks")
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,6 +19,7 @@ import java.util.UUID;
 
 public class Task {
     @Id
+    @org.springframework.data.annotation.Id
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -48,11 +53,25 @@ public class Task {
     @Column(name = "priority_label")
     private String priorityLabel;
 
+    // Optimistic locking: her güncellemede artar, eski version ile yapılan yazma reddedilir.
+    // Spring Data JPA yalnızca jakarta @Version'a izin verir; R2DBC tarafı version koşulunu kendisi uygular.
+    // Kolon NOT NULL'dur; alan yalnızca henüz kaydedilmemiş görevde null'dır (Spring Data yeni entity'yi buradan anlar).
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Kayıtlı priority_value kolonundan türetilir ve paylaşılan instance döner, çağrı başına nesne oluşmaz.
+    // Henüz kaydedilmemiş (priority alanları dolmamış) görevde status'tan hesaplanır.
     public Task.Priority getPriority() {
+        return priorityValue == 0 ? priorityFor(status) : Priority.of(priorityValue);
+    }
+
+    // Status -> priority eşlemesi tek yerde; toplu SQL update'ler de aynı değerleri buradan alır
+    public static Priority priorityFor(TaskStatus status) {
         return switch (status) {
-            case PENDING, COMPLETED -> new LowPriority();
-            case IN_PROGRESS -> new MediumPriority();
-            case BLOCKED -> new HighPriority();
+            case PENDING, COMPLETED -> Priority.LOW;
+            case IN_PROGRESS -> Priority.MEDIUM;
+            case BLOCKED -> Priority.HIGH;
         };
     }
 
@@ -63,7 +82,7 @@ public class Task {
     @PrePersist
     protected void onCreate() {
         if (id == null) {
-            id = UUID.randomUUID();
+            id = TimeOrderedUuid.next();
         }
         if (createdAt == null) {
             createdAt = LocalDateTime.now();
@@ -73,6 +92,16 @@ public class Task {
         updatePriorityFields();
     }
 
+    // R2DBC tarafında JPA lifecycle callback'leri çalışmaz; aynı varsayılanlar
+    // kayıt öncesi callback üzerinden bu metotla uygulanır.
+    public Task prepareForSave() {
+        onCreate();
+        if (version == null) {
+            version = 0L;
+        }
+        return this;
+    }
+
     //JPA Lifecycle anotasyonu.
     // Bir nesne  veritabanında güncelleme yapıldıktan sonra otomatik olarak tetiklenir
 
@@ -82,18 +111,15 @@ public class Task {
     }
 
     private void updatePriorityFields() {
-        Priority priority = switch (status) {
-            case PENDING, COMPLETED -> new LowPriority();
-            case IN_PROGRESS -> new MediumPriority();
-            case BLOCKED -> new HighPriority();
-        };
+        Priority priority = priorityFor(status);
 
         this.priorityValue = priority.getValue();
         this.priorityLabel = priority.getLabel();
     }
 
+    // Id'ler zaman sıralıdır (UUIDv7), insert'ler PK index'inin sonuna eklenir
     public static class TaskBuilder {
-        private UUID id = UUID.randomUUID();
+        private UUID id = TimeOrderedUuid.next();
         private TaskStatus status = TaskStatus.PENDING;
         private LocalDateTime createdAt = LocalDateTime.now();
     }
@@ -117,9 +143,26 @@ public class Task {
     //Sealed interface: Kontrollü kalıtım için permit ile belirtilen sınıfların yalnızca
     // sealed interface i implement etmesine izin verilir.
 
+    // Priority nesneleri değişmezdir ve her seviye için tek bir instance vardır (LOW / MEDIUM / HIGH);
+    // yeni instance oluşturulamaz. JSON'a önceden hazırlanmış alan adları ve değerlerle yazılır.
+
+    @JsonSerialize(using = PriorityJsonSerializer.class)
     public sealed interface Priority permits LowPriority, MediumPriority, HighPriority {
+        Priority LOW = new LowPriority();
+        Priority MEDIUM = new MediumPriority();
+        Priority HIGH = new HighPriority();
+
         String getLabel();
         int getValue();
+
+        static Priority of(int value) {
+            return switch (value) {
+                case 1 -> LOW;
+                case 2 -> MEDIUM;
+                case 3 -> HIGH;
+                default -> throw new IllegalArgumentException("Invalid priority value: " + value);
+            };
+        }
     }
 
     public enum TaskPriority {
@@ -137,6 +180,9 @@ public class Task {
     }
 
     public static final class LowPriority implements Priority {
+        private LowPriority() {
+        }
+
         @Override
         public String   getLabel() {
             return TaskPriority.LOW.label;
@@ -149,6 +195,9 @@ public class Task {
     }
 
     public static final class MediumPriority implements Priority {
+        private MediumPriority() {
+        }
+
         @Override
         public String getLabel() {
             return TaskPriority.MEDIUM.label;
@@ -161,6 +210,9 @@ public class Task {
     }
 
     public static final class HighPriority implements Priority {
+        private HighPriority() {
+        }
+
         @Override
         public String getLabel() {
             return TaskPriority.HIGH.label;
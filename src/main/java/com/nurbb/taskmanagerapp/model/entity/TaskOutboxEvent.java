@@ -0,0 +1,75 @@
+package com.nurbb.taskmanagerapp.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Transactional outbox kaydı: görev insert / update'i ile aynı transaction'da yazılır,
+// böylece commit olan her değişikliğin olayı da kalıcıdır. TaskOutboxRelay kayıtları tüketicilere iletip siler.
+// next_attempt_at: kaydın relay tarafından tekrar seçilebileceği zaman; null ise deneme sınırı dolmuştur (dead letter).
+// Id sequence'tan 50'şer blok halinde alınır; toplu insert'lerde satır başına nextval çağrısı olmaz.
+
+@Entity
+@Table(name = "task_outbox")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_outbox_seq")
+    @SequenceGenerator(name = "task_outbox_seq", sequenceName = "task_outbox_seq", allocationSize = 50)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false, updatable = false)
+    private UUID taskId;
+
+    @Column(name = "event_type", nullable = false, updatable = false, length = 32)
+    @Enumerated(EnumType.STRING)
+    private EventType eventType;
+
+    @Column(name = "task_status", nullable = false, updatable = false, length = 32)
+    @Enumerated(EnumType.STRING)
+    private Task.TaskStatus taskStatus;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    public enum EventType {
+        TASK_CREATED,
+        TASK_COMPLETED
+    }
+
+    public static TaskOutboxEvent of(Task task, EventType eventType) {
+        LocalDateTime now = LocalDateTime.now();
+        return TaskOutboxEvent.builder()
+                .taskId(task.getId())
+                .eventType(eventType)
+                .taskStatus(task.getStatus())
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    // Teslimat sürerken başka relay'ler kaydı seçmez; relay bu süre içinde sonucu yazmazsa kayıt tekrar seçilir
+    public void leaseUntil(LocalDateTime leaseEnd) {
+        nextAttemptAt = leaseEnd;
+    }
+
+    public static String truncateError(String error) {
+        return error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+    }
+}
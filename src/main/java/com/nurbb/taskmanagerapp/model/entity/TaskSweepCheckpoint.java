@@ -0,0 +1,39 @@
+package com.nurbb.taskmanagerapp.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Arka plan tarayıcılarının (ör. OverdueTaskSweeper) ilerleme kaydı: en son işlenen görevin (created_at, id)
+// değeri. Yeniden başlatmada tarama bu noktadan devam eder. owner / leaseUntil aynı taramanın
+// birden fazla node'da eşzamanlı çalışmasını engeller; kayıt yalnızca native sorgularla güncellenir.
+
+@Entity
+@Table(name = "task_sweep_checkpoint")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSweepCheckpoint {
+
+    @Id
+    @Column(name = "name", nullable = false, updatable = false, length = 64)
+    private String name;
+
+    @Column(name = "last_created_at")
+    private LocalDateTime lastCreatedAt;
+
+    @Column(name = "last_task_id")
+    private UUID lastTaskId;
+
+    @Column(name = "owner", length = 128)
+    private String owner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
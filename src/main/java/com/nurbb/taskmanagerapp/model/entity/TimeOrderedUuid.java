@@ -0,0 +1,53 @@
+package com.nurbb.taskmanagerapp.model.entity;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// UUIDv7 (RFC 9562) üretici: ilk 48 bit Unix epoch milisaniyesi, ardından 12 bitlik sayaç (rand_a), kalan 62 bit rastgele.
+// Yeni id'ler primary key B-tree'sinin sağ ucuna eklenir; randomUUID()'deki gibi rastgele sayfalara yazılıp
+// sayfa bölünmesine ve cache'te olmayan sayfaların okunmasına yol açmaz.
+//
+// (milisaniye, sayaç) tek bir AtomicLong'da tutulur ve CAS ile ilerletilir: aynı JVM'de eşzamanlı thread'ler dahil
+// üretilen her id bir öncekinden büyüktür. Aynı milisaniyede 4096'dan fazla id istenirse ya da saat geri giderse
+// zaman alanı saat yerine bir önceki değerden devam eder, sıra bozulmaz.
+
+public final class TimeOrderedUuid {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT_RFC_9562 = 0x8000_0000_0000_0000L;
+
+    // (epochMillis << 12) | sayaç
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID next() {
+        long state = nextState(System.currentTimeMillis());
+        long millis = state >>> COUNTER_BITS;
+        long counter = state & ((1L << COUNTER_BITS) - 1);
+
+        long mostSigBits = (millis << 16) | VERSION_7 | counter;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC_9562;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    // Id'nin üretildiği an (milisaniye); sıralama / hata ayıklama için
+    public static long timestampMillis(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long nextState(long nowMillis) {
+        long candidate = nowMillis << COUNTER_BITS;
+        while (true) {
+            long previous = LAST.get();
+            long next = candidate > previous ? candidate : previous + 1;
+            if (LAST.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+}
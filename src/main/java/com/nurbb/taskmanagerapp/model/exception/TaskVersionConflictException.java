@@ -0,0 +1,10 @@
+package com.nurbb.taskmanagerapp.model.exception;
+
+import java.util.UUID;
+
+// İstemcinin gönderdiği version ile veritabanındaki version uyuşmuyor: görev bu arada başkası tarafından değiştirildi
+public class TaskVersionConflictException extends RuntimeException {
+    public TaskVersionConflictException(UUID id, Long expectedVersion, Long actualVersion) {
+        super("Task with id " + id + " has version " + actualVersion + ", expected " + expectedVersion);
+    }
+}
@@ -17,7 +17,8 @@ public class ManualTaskMapper {
                 task.getDescription(),
                 task.getStatus(),
                 task.getCreatedAt(),
-                task.getPriority()
+                task.getPriority(),
+                task.getVersion()
         );
     }
 }
@@ -0,0 +1,44 @@
+package com.nurbb.taskmanagerapp.model.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.nurbb.taskmanagerapp.model.entity.Task;
+
+import java.io.IOException;
+
+// Task.Priority için JSON çıktısı {"label":"Low","value":1}. Alan adları ve label değerleri bir kez
+// kodlanmış SerializedString olarak tutulur; Jackson her görevde getter'ları reflection ile keşfetmez
+// ve string'leri yeniden escape etmez.
+
+public class PriorityJsonSerializer extends StdSerializer<Task.Priority> {
+
+    private static final SerializedString LABEL = new SerializedString("label");
+    private static final SerializedString VALUE = new SerializedString("value");
+    private static final SerializedString LOW = new SerializedString(Task.Priority.LOW.getLabel());
+    private static final SerializedString MEDIUM = new SerializedString(Task.Priority.MEDIUM.getLabel());
+    private static final SerializedString HIGH = new SerializedString(Task.Priority.HIGH.getLabel());
+
+    public PriorityJsonSerializer() {
+        super(Task.Priority.class);
+    }
+
+    @Override
+    public void serialize(Task.Priority priority, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(LABEL);
+        generator.writeString(label(priority));
+        generator.writeFieldName(VALUE);
+        generator.writeNumber(priority.getValue());
+        generator.writeEndObject();
+    }
+
+    private static SerializedString label(Task.Priority priority) {
+        return switch (priority) {
+            case Task.LowPriority low -> LOW;
+            case Task.MediumPriority medium -> MEDIUM;
+            case Task.HighPriority high -> HIGH;
+        };
+    }
+}
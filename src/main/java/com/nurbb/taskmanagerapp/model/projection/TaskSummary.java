@@ -0,0 +1,23 @@
+package com.nurbb.taskmanagerapp.model.projection;
+
+import com.nurbb.taskmanagerapp.model.entity.Task;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Liste endpoint'lerinin döndüğü satır: description (2000 karakter) okunmaz.
+// JPQL constructor expression ile doğrudan oluşturulur; entity yüklenmez, persistence context'e girmez,
+// dirty checking ve flush maliyeti yoktur. Detay için GET /tasks/{id} kullanılır.
+
+public record TaskSummary(
+        UUID id,
+        String title,
+        Task.TaskStatus status,
+        LocalDateTime createdAt,
+        Task.Priority priority
+) {
+    public TaskSummary(UUID id, String title, Task.TaskStatus status, LocalDateTime createdAt, int priorityValue) {
+        this(id, title, status, createdAt,
+                priorityValue == 0 ? Task.priorityFor(status) : Task.Priority.of(priorityValue));
+    }
+}
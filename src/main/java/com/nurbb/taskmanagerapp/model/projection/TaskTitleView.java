@@ -0,0 +1,9 @@
+package com.nurbb.taskmanagerapp.model.projection;
+
+import java.util.UUID;
+
+// Başlık index'ini kurmak için yalnızca id ve title kolonları okunur
+public record TaskTitleView(
+        UUID id,
+        String title
+) {}
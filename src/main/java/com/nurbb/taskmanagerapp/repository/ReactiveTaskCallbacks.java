@@ -0,0 +1,18 @@
+package com.nurbb.taskmanagerapp.repository;
+
+import com.nurbb.taskmanagerapp.model.entity.Task;
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+// JPA'daki @PrePersist karşılığı: R2DBC ile yazılmadan önce id, tarih ve priority alanları doldurulur
+@Component
+class ReactiveTaskCallbacks implements BeforeConvertCallback<Task> {
+
+    @Override
+    public Publisher<Task> onBeforeConvert(Task task, SqlIdentifier table) {
+        return Mono.just(task.prepareForSave());
+    }
+}
@@ -0,0 +1,39 @@
+package com.nurbb.taskmanagerapp.repository;
+
+import com.nurbb.taskmanagerapp.model.entity.Task;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Reactive API için non-blocking R2DBC repository. JPA tarafındaki TaskRepository ile aynı "tasks" tablosunu kullanır,
+// bu yüzden iki API birbirinin yazdığı görevleri görür.
+
+@Repository
+public interface ReactiveTaskRepository extends R2dbcRepository<Task, UUID> {
+
+    // Akış keyset sayfalarıyla okunur: her sayfa ayrı, kısa bir sorgudur ve bağlantı sayfa okunur okunmaz havuza döner.
+    // (created_at, id) üzerindeki index kullanılır (V2).
+
+    @Query("""
+            SELECT * FROM tasks
+            ORDER BY created_at ASC, id ASC
+            LIMIT :limit
+            """)
+    Flux<Task> findFirstPage(@Param("limit") int limit);
+
+    @Query("""
+            SELECT * FROM tasks
+            WHERE (created_at, id) > (:createdAt, :id)
+            ORDER BY created_at ASC, id ASC
+            LIMIT :limit
+            """)
+    Flux<Task> findPageAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            @Param("limit") int limit);
+}
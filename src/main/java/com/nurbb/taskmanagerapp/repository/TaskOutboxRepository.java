@@ -0,0 +1,48 @@
+package com.nurbb.taskmanagerapp.repository;
+
+import com.nurbb.taskmanagerapp.model.entity.TaskOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskOutboxRepository extends JpaRepository<TaskOutboxEvent, Long> {
+
+    // SKIP LOCKED: başka bir relay (aynı ya da farklı node) tarafından kilitlenmiş satırlar beklenmeden atlanır,
+    // böylece birden fazla relay birbirini bloklamadan farklı batch'leri işler.
+    // Yalnızca zamanı gelmiş satırlar seçilir: lease'i süren, backoff'ta bekleyen ve dead letter (NULL) satırlar atlanır.
+
+    @Query(value = """
+            SELECT * FROM task_outbox
+            WHERE next_attempt_at <= :now
+            ORDER BY next_attempt_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<TaskOutboxEvent> lockNextBatch(
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit);
+
+    // nextAttemptAt null ise satır dead letter olur
+    @Modifying
+    @Query("""
+            UPDATE TaskOutboxEvent e
+            SET e.attempts = e.attempts + 1,
+                e.lastError = :error,
+                e.nextAttemptAt = :nextAttemptAt
+            WHERE e.id = :id
+            """)
+    int recordFailure(
+            @Param("id") Long id,
+            @Param("error") String error,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    long countByNextAttemptAtIsNotNull();
+
+    long countByNextAttemptAtIsNull();
+}
@@ -1,15 +1,26 @@
 package com.nurbb.taskmanagerapp.repository;
 
+import com.nurbb.taskmanagerapp.model.dto.response.TaskStatusCount;
 import com.nurbb.taskmanagerapp.model.entity.Task;
+import com.nurbb.taskmanagerapp.model.projection.TaskSummary;
+import com.nurbb.taskmanagerapp.model.projection.TaskTitleView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 //Veri katmanı olarak işaretliyoruz DI için tanımlama yapılır.
 
@@ -19,21 +30,149 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
 
     List<Task> findByStatus(Task.TaskStatus status);
 
-    List<Task> findByTitleContainingIgnoreCase(String title);
+    // Başlık araması normalde TaskTitleIndex'ten yapılır; bu sorgu yalnızca 3 karakterden kısa sorgular ve index
+    // hazır değilken kullanılır. LIKE %x% index kullanamaz, tarama Pageable ile sınırlanır.
+    List<Task> findByTitleContainingIgnoreCase(String title, Pageable pageable);
 
     Optional<Task> findFirstByOrderByCreatedAtDesc();
 
     long countByStatus(Task.TaskStatus status);
 
+    // Spring Data exists sorgusu ilk eşleşen satırda durur (LIMIT 1), tablo belleğe yüklenmez
+    boolean existsByStatus(Task.TaskStatus status);
+
+    @Query("""
+            SELECT new com.nurbb.taskmanagerapp.model.dto.response.TaskStatusCount(t.status, COUNT(t))
+            FROM Task t
+            GROUP BY t.status
+            """)
+    List<TaskStatusCount> countTasksGroupedByStatus();
+
+    // Keyset (seek) pagination: OFFSET yerine son görülen (created_at, id) değerinden devam edilir,
+    // böylece sayfa maliyeti tablo büyüdükçe artmaz.
+    // Liste sorguları entity değil TaskSummary döner: yalnızca listede gösterilen kolonlar seçilir,
+    // read-only transaction'da çalışır (flush yok).
+
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new com.nurbb.taskmanagerapp.model.projection.TaskSummary(t.id, t.title, t.status, t.createdAt, t.priorityValue)
+            FROM Task t
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TaskSummary> findFirstPage(Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new com.nurbb.taskmanagerapp.model.projection.TaskSummary(t.id, t.title, t.status, t.createdAt, t.priorityValue)
+            FROM Task t
+            WHERE t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :id)
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TaskSummary> findPageAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new com.nurbb.taskmanagerapp.model.projection.TaskSummary(t.id, t.title, t.status, t.createdAt, t.priorityValue)
+            FROM Task t
+            WHERE t.status = :status
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TaskSummary> findFirstPageByStatus(@Param("status") Task.TaskStatus status, Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new com.nurbb.taskmanagerapp.model.projection.TaskSummary(t.id, t.title, t.status, t.createdAt, t.priorityValue)
+            FROM Task t
+            WHERE t.status = :status
+            AND (t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :id))
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TaskSummary> findPageByStatusAfter(
+            @Param("status") Task.TaskStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
     List<Task> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
+    // Export için: sonuç listeye toplanmaz, fetch size kadar satır parça parça cursor'dan okunur.
+    // Stream açık bir transaction içinde tüketilmeli ve kapatılmalıdır.
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Task t ORDER BY t.createdAt ASC, t.id ASC")
+    Stream<Task> streamAllForExport();
+
+    // Başlık index'i açılışta bundan kurulur: entity yerine yalnızca (id, title) okunur
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.nurbb.taskmanagerapp.model.projection.TaskTitleView(t.id, t.title) FROM Task t")
+    Stream<TaskTitleView> streamAllTitles();
+
     //JPQL(Java Persistence Query Language) nesne odaklıdır sınıf isimleriyle çalışır
 
-    @Query("SELECT t FROM Task t WHERE t.priorityValue= : value ORDER BY t.createdAt DESC ")
-    List<Task> findTasksByPriorityValue(@Param("Value") int priorityValue);
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new com.nurbb.taskmanagerapp.model.projection.TaskSummary(t.id, t.title, t.status, t.createdAt, t.priorityValue)
+            FROM Task t
+            WHERE t.priorityValue = :value
+            ORDER BY t.createdAt DESC
+            """)
+    List<TaskSummary> findTasksByPriorityValue(@Param("value") int priorityValue);
+
+    // Gecikmiş görevler tek listede değil, keyset ile sınırlı parçalar halinde okunur (OverdueTaskSweeper).
+    // COMPLETED enum literal olarak SQL'e gömülür, böylece kısmi index'in (status <> 'COMPLETED') koşulu eşleşir.
 
-    @Query("SELECT t FROM Task t WHERE t.createdAt < : date AND t.status != 'COMPLETED'")
-    List<Task> findOverdueTasks(@Param("date") LocalDateTime date);
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new com.nurbb.taskmanagerapp.model.projection.TaskSummary(t.id, t.title, t.status, t.createdAt, t.priorityValue)
+            FROM Task t
+            WHERE t.status <> com.nurbb.taskmanagerapp.model.entity.Task.TaskStatus.COMPLETED
+            AND t.createdAt < :cutoff
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TaskSummary> findFirstOverdueChunk(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new com.nurbb.taskmanagerapp.model.projection.TaskSummary(t.id, t.title, t.status, t.createdAt, t.priorityValue)
+            FROM Task t
+            WHERE t.status <> com.nurbb.taskmanagerapp.model.entity.Task.TaskStatus.COMPLETED
+            AND t.createdAt < :cutoff
+            AND (t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :id))
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TaskSummary> findOverdueChunkAfter(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT COUNT(t) FROM Task t
+            WHERE t.status <> com.nurbb.taskmanagerapp.model.entity.Task.TaskStatus.COMPLETED
+            AND t.createdAt < :cutoff
+            """)
+    long countOverdue(@Param("cutoff") LocalDateTime cutoff);
+
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT COUNT(t) FROM Task t
+            WHERE t.status <> com.nurbb.taskmanagerapp.model.entity.Task.TaskStatus.COMPLETED
+            AND t.createdAt < :cutoff
+            AND (t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :id))
+            """)
+    long countOverdueAfter(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id);
 
     //Native SQL soru direk veritabanına gönderilir daha esnek ve düşük seviyede kontrol sağlar
 
@@ -48,6 +187,114 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
             @Param("minPriority") int minPriority,
             @Param("limit") int limit);
 
+    // TaskClaimQueue'nun bellekteki heap'ini dolduran aday listesi: kilit almaz, yalnızca PENDING görevleri
+    // en eskiden yeniye okur (PENDING görevlerin priority'si status'tan türediği için hepsi LOW'dur, sıraya katılmaz).
+    // Sahiplenme claimPendingTasks ile ayrıca ve atomik olarak yapılır.
+
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new com.nurbb.taskmanagerapp.model.projection.TaskSummary(t.id, t.title, t.status, t.createdAt, t.priorityValue)
+            FROM Task t
+            WHERE t.status = com.nurbb.taskmanagerapp.model.entity.Task.TaskStatus.PENDING
+            ORDER BY t.createdAt ASC, t.id ASC
+            """)
+    List<TaskSummary> findClaimCandidates(Limit limit);
+
+    // Adaylardan hâlâ PENDING olanlar IN_PROGRESS yapılır. SKIP LOCKED: başka bir worker'ın (aynı ya da farklı node)
+    // o anda sahiplendiği satırlar beklenmeden atlanır; commit sonrası status artık PENDING olmadığı için
+    // aynı görev ikinci kez sahiplenilemez. Dönen satırlar: (id, title, created_at) yalnızca bu çağrının aldıkları.
+
+    @Query(value = """
+            WITH claimable AS (
+                SELECT id FROM tasks
+                WHERE id IN (:ids)
+                AND status = 'PENDING'
+                ORDER BY id
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE tasks t
+            SET status = 'IN_PROGRESS',
+                priority_value = :priorityValue,
+                priority_label = :priorityLabel,
+                updated_at = now(),
+                version = t.version + 1
+            FROM claimable c
+            WHERE t.id = c.id
+            RETURNING t.id, t.title, t.created_at
+            """, nativeQuery = true)
+    List<Object[]> claimPendingTasks(
+            @Param("ids") Collection<UUID> ids,
+            @Param("priorityValue") int priorityValue,
+            @Param("priorityLabel") String priorityLabel);
+
+    // Toplu status geçişi tek bir şartlı UPDATE ile yapılır (satır başına SELECT + UPDATE yerine).
+    // BLOCKED görevler ve zaten hedef status'taki görevler değişmez. Satırlar id sırasıyla kilitlenir,
+    // böylece çakışan toplu güncellemeler deadlock'a girmez. Dönen satırlar: (id, önceki status)
+    // yalnızca gerçekten değişen görevler içindir.
+
+    @Query(value = """
+            WITH candidates AS (
+                SELECT id, status FROM tasks
+                WHERE id IN (:ids)
+                AND status <> 'BLOCKED'
+                AND status <> :newStatus
+                ORDER BY id
+                FOR UPDATE
+            )
+            UPDATE tasks t
+            SET status = :newStatus,
+                priority_value = :priorityValue,
+                priority_label = :priorityLabel,
+                updated_at = now(),
+                version = t.version + 1
+            FROM candidates c
+            WHERE t.id = c.id
+            RETURNING t.id, c.status
+            """, nativeQuery = true)
+    List<Object[]> transitionStatuses(
+            @Param("ids") Collection<UUID> ids,
+            @Param("newStatus") String newStatus,
+            @Param("priorityValue") int priorityValue,
+            @Param("priorityLabel") String priorityLabel);
+
+    // Tek görev için read-modify-write olmadan status değişikliği: kontrol ve yazma aynı ifadede yapılır,
+    // satır kilidi yalnızca bu ifade süresince tutulur. expectedVersion verilirse version da koşula eklenir.
+    // Dönen satır UPDATE'in yazdığı haldir, yanıt için ayrıca okunmaz:
+    // (id, önceki status, title, description, created_at, updated_at, version).
+    // Boş sonuç: görev yok, BLOCKED, zaten hedef status'ta ya da version uyuşmuyor.
+
+    @Query(value = """
+            WITH candidate AS (
+                SELECT id, status FROM tasks
+                WHERE id = :id
+                AND status <> 'BLOCKED'
+                AND status <> :newStatus
+                AND (CAST(:expectedVersion AS BIGINT) IS NULL OR version = :expectedVersion)
+                FOR UPDATE
+            )
+            UPDATE tasks t
+            SET status = :newStatus,
+                priority_value = :priorityValue,
+                priority_label = :priorityLabel,
+                updated_at = now(),
+                version = t.version + 1
+            FROM candidate c
+            WHERE t.id = c.id
+            RETURNING t.id, c.status, t.title, t.description, t.created_at, t.updated_at, t.version
+            """, nativeQuery = true)
+    List<Object[]> transitionStatus(
+            @Param("id") UUID id,
+            @Param("newStatus") String newStatus,
+            @Param("priorityValue") int priorityValue,
+            @Param("priorityLabel") String priorityLabel,
+            @Param("expectedVersion") Long expectedVersion);
+
+    // Entity yüklenmeden silinir; dönen status yalnızca satır gerçekten silindiyse vardır
+    // (boş sonuç: görev yok ya da başka bir istek önce sildi).
+
+    @Query(value = "DELETE FROM tasks WHERE id = :id RETURNING status", nativeQuery = true)
+    List<String> deleteByIdReturningStatus(@Param("id") UUID id);
+
     @Query(value = """
             SELECT 
                 status,
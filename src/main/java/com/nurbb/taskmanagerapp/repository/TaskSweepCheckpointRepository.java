@@ -0,0 +1,71 @@
+package com.nurbb.taskmanagerapp.repository;
+
+import com.nurbb.taskmanagerapp.model.entity.TaskSweepCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Her metot tek bir kısa ifadedir ve kendi transaction'ında çalışır; tarama boyunca transaction açık tutulmaz.
+
+@Repository
+public interface TaskSweepCheckpointRepository extends JpaRepository<TaskSweepCheckpoint, String> {
+
+    // Kayıt yoksa oluşturulur; varsa yalnızca lease'i dolmuşsa ya da zaten bu owner'daysa alınır.
+    // 0 dönerse tarama başka bir node'dadır.
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_sweep_checkpoint (name, owner, lease_until, updated_at)
+            VALUES (:name, :owner, :leaseUntil, :now)
+            ON CONFLICT (name) DO UPDATE
+            SET owner = EXCLUDED.owner,
+                lease_until = EXCLUDED.lease_until,
+                updated_at = EXCLUDED.updated_at
+            WHERE task_sweep_checkpoint.lease_until IS NULL
+               OR task_sweep_checkpoint.lease_until < :now
+               OR task_sweep_checkpoint.owner = :owner
+            """, nativeQuery = true)
+    int claim(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("leaseUntil") LocalDateTime leaseUntil,
+            @Param("now") LocalDateTime now);
+
+    // Checkpoint ilerletilirken lease de uzatılır; lease başka node'a geçtiyse 0 döner ve tarama durur
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE task_sweep_checkpoint
+            SET last_created_at = :lastCreatedAt,
+                last_task_id = :lastTaskId,
+                lease_until = :leaseUntil,
+                updated_at = :now
+            WHERE name = :name
+            AND owner = :owner
+            """, nativeQuery = true)
+    int advance(
+            @Param("name") String name,
+            @Param("owner") String owner,
+            @Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+            @Param("lastTaskId") UUID lastTaskId,
+            @Param("leaseUntil") LocalDateTime leaseUntil,
+            @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE task_sweep_checkpoint
+            SET lease_until = NULL
+            WHERE name = :name
+            AND owner = :owner
+            """, nativeQuery = true)
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
@@ -1,25 +1,139 @@
 package com.nurbb.taskmanagerapp.security;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nurbb.taskmanagerapp.model.entity.AppUser;
+import com.nurbb.taskmanagerapp.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Kullanıcılar app_users tablosundan okunur. JwtAuthenticationFilter her istekte bu servisi çağırdığı için
+// önünde TTL'li, boyutu sınırlı bir Caffeine cache vardır; cache hit'te ne SQL ne de BCrypt çalışır.
+// Cache'te Spring Security'nin User nesnesi değil değişmez bir kopya tutulur: authentication sonrası
+// eraseCredentials() dönen User nesnesinin şifresini sildiği için her çağrıda yeni User oluşturulur.
+
 @Component
 public class CustomUserDetailsService implements UserDetailsService {
 
+    private static final String DEFAULT_USERNAME = "user";
+    private static final String DEFAULT_PASSWORD = "password";
+    private static final String DEFAULT_ROLE = "USER";
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Cache<String, CachedUser> userCache;
+    // "security.user.lookup" timer'ları: outcome=cache_hit|loaded|not_found
+    private final Timer cacheHitTimer;
+    private final Timer loadedTimer;
+    private final Timer notFoundTimer;
+
+    public CustomUserDetailsService(
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.user-cache.max-size:10000}") long cacheMaxSize,
+            @Value("${security.user-cache.ttl:PT5M}") Duration cacheTtl) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+        this.cacheHitTimer = lookupTimer(meterRegistry, "cache_hit");
+        this.loadedTimer = lookupTimer(meterRegistry, "loaded");
+        this.notFoundTimer = lookupTimer(meterRegistry, "not_found");
+    }
+
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("security.user.lookup")
+                .description("UserDetails lookup latency")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        if (!username.equals("user")) {
-            throw new UsernameNotFoundException("User not found");
+        long start = System.nanoTime();
+        CachedUser cached = userCache.getIfPresent(username);
+        Timer timer = cacheHitTimer;
+        if (cached == null) {
+            AppUser user = userRepository.findByUsername(username).orElse(null);
+            if (user == null) {
+                notFoundTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw new UsernameNotFoundException("User not found");
+            }
+            cached = new CachedUser(user.getUsername(), user.getPasswordHash(), user.getRole());
+            userCache.put(cached.username(), cached);
+            timer = loadedTimer;
         }
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         return User.builder()
-                .username("user")
-                .password(new BCryptPasswordEncoder().encode("password"))
-                .roles("USER")
+                .username(cached.username())
+                .password(cached.passwordHash())
+                .roles(cached.role())
                 .build();
     }
-}
\ No newline at end of file
+
+    // Şifre yalnızca burada, kayıt sırasında bir kez hash'lenir.
+    // existsByUsername ile insert arasında aynı kullanıcı adı eşzamanlı kaydedilirse unique constraint devreye girer;
+    // flush burada yapılır ki bu durum da "kullanıcı adı alınmış" hatasına (400) dönüşsün, commit'te 500 olmasın.
+    @Transactional
+    public UserDetails register(String username, String rawPassword) {
+        if (username == null || username.isBlank() || rawPassword == null || rawPassword.isBlank()) {
+            throw new IllegalArgumentException("Username and password cannot be empty.");
+        }
+        if (userRepository.existsByUsername(username)) {
+            throw usernameTaken(username);
+        }
+        try {
+            userRepository.saveAndFlush(AppUser.builder()
+                    .username(username)
+                    .passwordHash(passwordEncoder.encode(rawPassword))
+                    .role(DEFAULT_ROLE)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw usernameTaken(username);
+        }
+        invalidate(username);
+        return loadUserByUsername(username);
+    }
+
+    public void invalidate(String username) {
+        userCache.invalidate(username);
+    }
+
+    // Önceki sabit kullanıcı (user / password) ile giriş yapılabilmesi için ilk açılışta oluşturulur.
+    // Birden fazla node aynı anda açılırsa kullanıcıyı başka bir node oluşturmuş olabilir; bu durum açılışı durdurmaz.
+    @EventListener(ApplicationReadyEvent.class)
+    public void createDefaultUser() {
+        if (userRepository.existsByUsername(DEFAULT_USERNAME)) {
+            return;
+        }
+        try {
+            register(DEFAULT_USERNAME, DEFAULT_PASSWORD);
+        } catch (IllegalArgumentException e) {
+            // Sabit kullanıcı adı ve şifre boş olmadığı için tek neden: başka bir node araya girip oluşturdu
+        }
+    }
+
+    private static IllegalArgumentException usernameTaken(String username) {
+        return new IllegalArgumentException("Username is already taken: " + username);
+    }
+
+    private record CachedUser(String username, String passwordHash, String role) {}
+}
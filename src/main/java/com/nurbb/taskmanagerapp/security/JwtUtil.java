@@ -1,14 +1,20 @@
 package com.nurbb.taskmanagerapp.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
@@ -16,7 +22,34 @@ public class JwtUtil {
 
     private final String SECRET_KEY = "mysecretkeymysecretkeymysecretkeymysecretkey";
     private final long EXPIRATION_TIME = 1000 * 60 * 60;
-    private final Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+    private final SecretKey key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+    // Parser immutable ve thread-safe; her çağrıda yeniden oluşturulmaz
+    private final JwtParser parser = Jwts.parser().verifyWith(key).build();
+    private final VerifiedTokenCache tokenCache;
+    // "security.jwt" timer'ları: operation=parse|validate, outcome=valid|invalid|cache_hit.
+    // Her istekte çalıştığı için timer'lar bir kez oluşturulur, çağrı başına builder kullanılmaz.
+    private final Timer parseValidTimer;
+    private final Timer parseInvalidTimer;
+    private final Timer validateCacheHitTimer;
+    private final Timer validateValidTimer;
+    private final Timer validateInvalidTimer;
+
+    public JwtUtil(VerifiedTokenCache tokenCache, MeterRegistry meterRegistry) {
+        this.tokenCache = tokenCache;
+        this.parseValidTimer = jwtTimer(meterRegistry, "parse", "valid");
+        this.parseInvalidTimer = jwtTimer(meterRegistry, "parse", "invalid");
+        this.validateCacheHitTimer = jwtTimer(meterRegistry, "validate", "cache_hit");
+        this.validateValidTimer = jwtTimer(meterRegistry, "validate", "valid");
+        this.validateInvalidTimer = jwtTimer(meterRegistry, "validate", "invalid");
+    }
+
+    private static Timer jwtTimer(MeterRegistry meterRegistry, String operation, String outcome) {
+        return Timer.builder("security.jwt")
+                .description("JWT parse / validate latency")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 
     public String generateToken(UserDetails userDetails) {
         return Jwts.builder()
@@ -36,15 +69,51 @@ public class JwtUtil {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = Jwts.parser().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        Claims claims = parser.parseSignedClaims(token).getPayload();
         return claimsResolver.apply(claims);
     }
 
-    public boolean validateToken(String token, UserDetails userDetails) {
-        return extractUsername(token).equals(userDetails.getUsername()) && !isTokenExpired(token);
+    // İmza ve süre tek bir parse ile doğrulanır; geçersiz ya da süresi dolmuş token için boş döner
+    public Optional<Claims> parseValidClaims(String token) {
+        long start = System.nanoTime();
+        Optional<Claims> result = parse(token);
+        (result.isPresent() ? parseValidTimer : parseInvalidTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private Optional<Claims> parse(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getSubject() == null || claims.getExpiration() == null
+                    || claims.getExpiration().before(new Date())) {
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    // Auth filter'ın kullandığı yol: daha önce doğrulanmış token için yalnızca cache lookup yapılır
+    public Optional<String> validateAndExtractUsername(String token) {
+        long start = System.nanoTime();
+        String cachedUsername = tokenCache.getUsername(token);
+        if (cachedUsername != null) {
+            validateCacheHitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(cachedUsername);
+        }
+        Optional<String> username = parseValidClaims(token).map(claims -> {
+            tokenCache.put(token, claims.getSubject(), claims.getExpiration().toInstant());
+            return claims.getSubject();
+        });
+        (username.isPresent() ? validateValidTimer : validateInvalidTimer)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return username;
+    }
+
+    public boolean validateToken(String token, UserDetails userDetails) {
+        return validateAndExtractUsername(token)
+                .map(username -> username.equals(userDetails.getUsername()))
+                .orElse(false);
     }
-}
\ No newline at end of file
+}
@@ -34,8 +34,9 @@ class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/auth/login").permitAll() // ✅ Allow public access to login
+                        .requestMatchers("/auth/login", "/auth/register").permitAll() // ✅ Allow public access to login and registration
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll() // ✅ Allow public access to swagger
+                        .requestMatchers("/actuator/health").permitAll() // ✅ Allow health checks (/actuator/prometheus requires a token)
                         .anyRequest().authenticated() // 🔒 Secure all other endpoints
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
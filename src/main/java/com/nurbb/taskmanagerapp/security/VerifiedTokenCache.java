@@ -0,0 +1,59 @@
+package com.nurbb.taskmanagerapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// İmzası daha önce doğrulanmış token'ların username bilgisini expiry zamanına kadar tutar.
+// Aynı token ile gelen sonraki isteklerde HMAC doğrulaması ve parse yerine tek bir hash lookup yapılır.
+// Boyut sınırlıdır (Caffeine W-TinyLFU), her kayıt kendi token'ının exp zamanında düşer; temizlik için tarama yapılmaz.
+
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> tokens;
+
+    public VerifiedTokenCache(@Value("${security.jwt.cache.max-size:10000}") long maxSize) {
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    public String getUsername(String token) {
+        VerifiedToken verified = tokens.getIfPresent(token);
+        return verified == null ? null : verified.username();
+    }
+
+    public void put(String token, String username, Instant expiresAt) {
+        if (expiresAt.isAfter(Instant.now())) {
+            tokens.put(token, new VerifiedToken(username, expiresAt));
+        }
+    }
+
+    private record VerifiedToken(String username, Instant expiresAt) {}
+
+    // Kalan süre token'ın exp claim'inden hesaplanır; okuma ve aynı token'ın tekrar yazılması süreyi uzatmaz
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), verified.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, verified, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
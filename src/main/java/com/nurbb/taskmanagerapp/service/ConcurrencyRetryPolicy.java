@@ -0,0 +1,58 @@
+package com.nurbb.taskmanagerapp.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// Eşzamanlılık çakışmalarında (stale @Version, deadlock, lock timeout, serialization failure) işlemi
+// sınırlı sayıda, exponential backoff + jitter ile yeniden dener.
+// Her deneme kendi transaction'ını açmalıdır, bu yüzden transaction'ın dışında çağrılır.
+
+@Component
+public class ConcurrencyRetryPolicy {
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+
+    public ConcurrencyRetryPolicy(
+            @Value("${task.concurrency.retry.max-attempts:3}") int maxAttempts,
+            @Value("${task.concurrency.retry.initial-backoff:PT0.01S}") Duration initialBackoff,
+            @Value("${task.concurrency.retry.max-backoff:PT0.2S}") Duration maxBackoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("task.concurrency.retry.max-attempts must be positive.");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException | PessimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(attempt - 1, 20));
+        long sleepNanos = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            Thread.sleep(Duration.ofNanos(sleepNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to retry", e);
+        }
+    }
+}
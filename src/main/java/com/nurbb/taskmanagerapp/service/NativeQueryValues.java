@@ -0,0 +1,21 @@
+package com.nurbb.taskmanagerapp.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// Native sorgulardan Object[] olarak dönen kolonların dönüşümü. TIMESTAMP kolonu sürücü / Hibernate sürümüne göre
+// LocalDateTime ya da java.sql.Timestamp olarak gelir; tüm native sorgu okuyucuları aynı dönüşümü kullanır.
+
+final class NativeQueryValues {
+
+    private NativeQueryValues() {}
+
+    static LocalDateTime toLocalDateTime(Object value) {
+        return switch (value) {
+            case null -> null;
+            case LocalDateTime dateTime -> dateTime;
+            case Timestamp timestamp -> timestamp.toLocalDateTime();
+            default -> LocalDateTime.parse(value.toString());
+        };
+    }
+}
@@ -0,0 +1,243 @@
+package com.nurbb.taskmanagerapp.service;
+
+import com.nurbb.taskmanagerapp.model.entity.Task;
+import com.nurbb.taskmanagerapp.model.entity.TaskSweepCheckpoint;
+import com.nurbb.taskmanagerapp.model.projection.TaskSummary;
+import com.nurbb.taskmanagerapp.repository.TaskRepository;
+import com.nurbb.taskmanagerapp.repository.TaskSweepCheckpointRepository;
+import com.nurbb.taskmanagerapp.service.event.TaskEventDispatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Gecikmiş (threshold'dan eski ve tamamlanmamış) görevleri periyodik olarak tarar.
+// Görevler (created_at, id) keyset sırasıyla chunkSize'lık parçalar halinde okunur; her okuma kısa bir read-only
+// sorgudur ve bellekte en fazla parallelism x chunkSize satır bulunur. Parçalar virtual thread'lerde işlenir:
+// ESCALATE görevleri tek bir toplu UPDATE ile BLOCKED yapar, NOTIFY parçayı tasks-overdue kanalına bırakır.
+//
+// Checkpoint (son işlenen created_at, id) parçalar okuma sırasıyla tamamlandıkça ilerletilir; önündeki parçalar
+// bitmeden sonraki bir parçanın konumu yazılmaz. Yeniden başlatmada tarama checkpoint'ten devam eder, yarıda kalan
+// parçalar tekrar işlenir (at-least-once; BLOCKED'a geçiş idempotent). Tarama artımlıdır: bir sonraki tur
+// checkpoint'ten yeni cutoff'a kadar okur, böylece her görev gecikmiş hale geldiğinde bir kez işlenir.
+// Checkpoint satırındaki lease sayesinde aynı anda yalnızca bir node tarar.
+
+@Slf4j
+@Component
+public class OverdueTaskSweeper {
+
+    static final String CHECKPOINT_NAME = "overdue-tasks";
+
+    public enum OverdueAction {
+        ESCALATE,
+        NOTIFY
+    }
+
+    private final TaskRepository taskRepository;
+    private final TaskSweepCheckpointRepository checkpointRepository;
+    private final TaskService taskService;
+    private final TaskEventDispatcher taskEvents;
+    private final MeterRegistry meterRegistry;
+    private final OverdueAction action;
+    private final Duration threshold;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Duration lease;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+    private final ExecutorService chunkExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter scanned;
+    private final Timer chunkTimer;
+    private final Timer sweepTimer;
+
+    public OverdueTaskSweeper(
+            TaskRepository taskRepository,
+            TaskSweepCheckpointRepository checkpointRepository,
+            TaskService taskService,
+            TaskEventDispatcher taskEvents,
+            MeterRegistry meterRegistry,
+            @Value("${task.overdue.action:NOTIFY}") OverdueAction action,
+            @Value("${task.overdue.threshold:P7D}") Duration threshold,
+            @Value("${task.overdue.chunk-size:500}") int chunkSize,
+            @Value("${task.overdue.parallelism:4}") int parallelism,
+            @Value("${task.overdue.lease:PT10M}") Duration lease) {
+        if (chunkSize < 1 || chunkSize > TaskService.MAX_BULK_STATUS_UPDATE) {
+            throw new IllegalArgumentException(
+                    "task.overdue.chunk-size must be between 1 and " + TaskService.MAX_BULK_STATUS_UPDATE + ".");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("task.overdue.parallelism must be positive.");
+        }
+        this.taskRepository = taskRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.taskService = taskService;
+        this.taskEvents = taskEvents;
+        this.meterRegistry = meterRegistry;
+        this.action = action;
+        this.threshold = threshold;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.lease = lease;
+
+        // Tarama hızı: rate(task_overdue_scanned_total); backlog: checkpoint'ten sonra kalan gecikmiş görev sayısı
+        this.scanned = Counter.builder("task.overdue.scanned")
+                .description("Overdue tasks read by the sweeper")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("task.overdue.chunk")
+                .tag("action", action.name())
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("task.overdue.sweep")
+                .register(meterRegistry);
+        meterRegistry.gauge("task.overdue.backlog", backlog);
+    }
+
+    public long getBacklog() {
+        return backlog.get();
+    }
+
+    // Önceki tur bitmeden yenisi başlamaz
+    @Scheduled(fixedDelayString = "${task.overdue.sweep-interval:PT5M}",
+            initialDelayString = "${task.overdue.initial-delay:PT1M}")
+    public void sweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sweepTimer.record(this::sweepOnce);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private void sweepOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        if (checkpointRepository.claim(CHECKPOINT_NAME, owner, now.plus(lease), now) == 0) {
+            log.debug("Overdue sweep skipped, checkpoint '{}' is leased by another node", CHECKPOINT_NAME);
+            return;
+        }
+        try {
+            TaskSweepCheckpoint checkpoint = checkpointRepository.findById(CHECKPOINT_NAME).orElseThrow();
+            Cursor cursor = new Cursor(checkpoint.getLastCreatedAt(), checkpoint.getLastTaskId());
+            LocalDateTime cutoff = now.minus(threshold);
+
+            backlog.set(cursor.isStart()
+                    ? taskRepository.countOverdue(cutoff)
+                    : taskRepository.countOverdueAfter(cutoff, cursor.createdAt(), cursor.id()));
+            long processed = sweepFrom(cursor, cutoff);
+            if (processed > 0) {
+                log.info("Overdue sweep processed {} tasks ({}), remaining backlog {}", processed, action, backlog.get());
+            }
+        } finally {
+            checkpointRepository.release(CHECKPOINT_NAME, owner);
+        }
+    }
+
+    private long sweepFrom(Cursor cursor, LocalDateTime cutoff) {
+        Deque<InFlightChunk> inFlight = new ArrayDeque<>(parallelism);
+        long processed = 0;
+        try {
+            List<TaskSummary> chunk;
+            do {
+                chunk = cursor.isStart()
+                        ? taskRepository.findFirstOverdueChunk(cutoff, Limit.of(chunkSize))
+                        : taskRepository.findOverdueChunkAfter(cutoff, cursor.createdAt(), cursor.id(), Limit.of(chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                scanned.increment(chunk.size());
+                TaskSummary last = chunk.getLast();
+                cursor = new Cursor(last.createdAt(), last.id());
+
+                List<TaskSummary> tasks = chunk;
+                inFlight.add(new InFlightChunk(
+                        CompletableFuture.runAsync(() -> process(tasks), chunkExecutor), cursor, chunk.size()));
+                if (inFlight.size() >= parallelism) {
+                    processed += completeOldest(inFlight);
+                }
+            } while (chunk.size() == chunkSize);
+
+            while (!inFlight.isEmpty()) {
+                processed += completeOldest(inFlight);
+            }
+        } catch (RuntimeException e) {
+            // Checkpoint başarısız parçanın önünde kalır; sonraki tur oradan tekrar dener
+            log.warn("Overdue sweep stopped after {} tasks", processed, e);
+            inFlight.forEach(chunkInFlight -> chunkInFlight.completion().exceptionally(error -> null).join());
+        }
+        return processed;
+    }
+
+    // En eski parça bitince checkpoint onun son satırına ilerletilir (lease de uzatılır)
+    private int completeOldest(Deque<InFlightChunk> inFlight) {
+        InFlightChunk oldest = inFlight.peekFirst();
+        oldest.completion().join();
+        inFlight.removeFirst();
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = checkpointRepository.advance(CHECKPOINT_NAME, owner,
+                oldest.last().createdAt(), oldest.last().id(), now.plus(lease), now);
+        if (updated == 0) {
+            throw new IllegalStateException("Checkpoint '" + CHECKPOINT_NAME + "' lease was lost.");
+        }
+        backlog.updateAndGet(remaining -> Math.max(0, remaining - oldest.size()));
+        return oldest.size();
+    }
+
+    private void process(List<TaskSummary> chunk) {
+        chunkTimer.record(() -> {
+            switch (action) {
+                case ESCALATE -> escalate(chunk);
+                case NOTIFY -> notifyOverdue(chunk);
+            }
+        });
+    }
+
+    // Zaten BLOCKED olanlar ve bu arada tamamlananlar UPDATE koşulunda elenir, yalnızca değişenler sayılır
+    private void escalate(List<TaskSummary> chunk) {
+        List<UUID> ids = chunk.stream()
+                .filter(task -> task.status() != Task.TaskStatus.BLOCKED)
+                .map(TaskSummary::id)
+                .toList();
+        List<UUID> escalated = taskService.updateTaskStatuses(ids, Task.TaskStatus.BLOCKED);
+        processedCounter("escalated").increment(escalated.size());
+        processedCounter("skipped").increment(chunk.size() - escalated.size());
+    }
+
+    private void notifyOverdue(List<TaskSummary> chunk) {
+        if (taskEvents.tasksOverdue().hasSubscribers()) {
+            taskEvents.tasksOverdue().publish(chunk);
+        }
+        processedCounter("notified").increment(chunk.size());
+    }
+
+    private Counter processedCounter(String outcome) {
+        return meterRegistry.counter("task.overdue.processed", "action", action.name(), "outcome", outcome);
+    }
+
+    private record Cursor(LocalDateTime createdAt, UUID id) {
+        boolean isStart() {
+            return createdAt == null;
+        }
+    }
+
+    private record InFlightChunk(CompletableFuture<Void> completion, Cursor last, int size) {
+    }
+}
@@ -1,19 +1,58 @@
 package com.nurbb.taskmanagerapp.service;
 
 import com.nurbb.taskmanagerapp.model.entity.Task;
+import com.nurbb.taskmanagerapp.repository.ReactiveTaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.query.Update;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.time.Duration;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.UUID;
 
+// Görevler R2DBC ile "tasks" tablosunda tutulur; hiçbir çağrı JDBC ile thread bloklamaz.
+// JPA tarafındaki /tasks API'si ile aynı veriyi görür.
+
 @Service
 public class ReactiveTaskService {
 
-    private final Map<UUID, Task> taskStore = new HashMap<>();
+    private final ReactiveTaskRepository taskRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final TaskCache taskCache;
+    private final TaskChangeFeed changeFeed;
+    private final TaskStatisticsTracker statisticsTracker;
+    private final TaskTitleIndex titleIndex;
+    private final int streamBatchSize;
+    private final int streamMaxElementsPerSecond;
+
+    public ReactiveTaskService(
+            ReactiveTaskRepository taskRepository,
+            R2dbcEntityTemplate entityTemplate,
+            TaskCache taskCache,
+            TaskChangeFeed changeFeed,
+            TaskStatisticsTracker statisticsTracker,
+            TaskTitleIndex titleIndex,
+            @Value("${task.reactive.stream.batch-size:256}") int streamBatchSize,
+            @Value("${task.reactive.stream.max-elements-per-second:0}") int streamMaxElementsPerSecond) {
+        if (streamBatchSize < 1) {
+            throw new IllegalArgumentException("task.reactive.stream.batch-size must be positive.");
+        }
+        this.taskRepository = taskRepository;
+        this.entityTemplate = entityTemplate;
+        this.taskCache = taskCache;
+        this.changeFeed = changeFeed;
+        this.statisticsTracker = statisticsTracker;
+        this.titleIndex = titleIndex;
+        this.streamBatchSize = streamBatchSize;
+        this.streamMaxElementsPerSecond = streamMaxElementsPerSecond;
+    }
 
 // Multi-threading ile eşzamanlı tasklar için Thread sınıfı kullanılıyor. İşi tanımlamak için runnable interface
 // verilir void run() metodunu barındıran bir interface yalnızca side-effect oluşturmak amacıyla kullanılıyor
@@ -21,44 +60,107 @@ public class ReactiveTaskService {
 // Java 5 ile birlikte Callable<T> interface tanıtıldı. İş tamamlandığında sonuç döndürebilir hata fırlatabilir
 //  Reaktif'te ise klasik senkron işlemleri rekatif lazy ve non-blocking yapılara sarmak için kullanılır
 
+    // Id builder'da atandığı için repository.save() kaydı güncelleme sanar; insert açıkça template ile yapılır
     public Mono<Task> createTask(String title, String description){
         return Mono.fromCallable(() -> {
             if (title == null || title.trim().isEmpty()){
                 throw new IllegalArgumentException("Task title cannot be empty");
             }
-            Task task = Task.builder()
+            return Task.builder()
                     .title(title)
                     .description(description)
                     .build();
-            taskStore.put(task.getId(),task);
-            return task;
-        });
+        }).flatMap(entityTemplate::insert)
+                .doOnNext(saved -> {
+                    statisticsTracker.onCreated(saved.getStatus(), saved.getCreatedAt());
+                    titleIndex.add(saved.getId(), saved.getTitle());
+                    changeFeed.onCreated(saved);
+                });
     }
 
     // Flux: çok sayıda task nesnesini döndürür. Project Reactor lib ait bir Publisher interface'idir
-    // fromItetable ise herhangi bir iterable veri kaynağını Flux'a döndürür. TaskStore hash map olarak tutuyorduk
+    // Satırlar (created_at, id) keyset sayfalarıyla, her biri batch-size satırlık ayrı sorgularla okunur.
+    // Sonraki sayfa ancak önceki sayfa subscriber'a tükendiğinde sorgulanır; sayfalar arasında bağlantı
+    // ya da açık snapshot tutulmaz, yavaş istemci R2DBC havuzunu meşgul etmez.
+    // max-elements-per-second > 0 ise batch'ler arasında bekleyerek hız sınırlanır.
 
     public Flux<Task> getAllTasks(){
-        return Flux.fromIterable(taskStore.values())
-                .delayElements(Duration.ofSeconds(1));
+        Flux<Task> tasks = readPage(null)
+                .expand(page -> page.size() < streamBatchSize ? Mono.empty() : readPage(page.getLast()))
+                .flatMapIterable(page -> page, 1);
+        if (streamMaxElementsPerSecond <= 0) {
+            return tasks;
+        }
+
+        int batchSize = Math.min(streamBatchSize, streamMaxElementsPerSecond);
+        Duration interval = Duration.ofNanos(1_000_000_000L * batchSize / streamMaxElementsPerSecond);
+        return tasks.buffer(batchSize)
+                .delayElements(interval)
+                .flatMapIterable(batch -> batch, 1);
+    }
+
+    private Mono<List<Task>> readPage(Task after) {
+        Flux<Task> page = after == null
+                ? taskRepository.findFirstPage(streamBatchSize)
+                : taskRepository.findPageAfter(after.getCreatedAt(), after.getId(), streamBatchSize);
+        return page.collectList();
     }
 
     public Mono<Task> getTaskById(UUID id){
-        return Mono.justOrEmpty(taskStore.get(id));
+        return taskRepository.findById(id);
     } // görev bulunamazsa mono.empty() döner hata fırlatılmadan yönetilir.
 
     //switchIfEmpty bir önceki mono boşsa yine zinciri kırmaz ama hata fırlatır.
+    // Update okunan version'a koşullu yapılır ve version'ı artırır (JPA tarafıyla aynı optimistic locking).
+    // Bu arada başka biri görevi değiştirdiyse okuma + yazma birkaç kez, kısa bir backoff ile baştan denenir.
     public Mono<Task> updateTaskStatus(UUID id, Task.TaskStatus newStatus){
-     return Mono.justOrEmpty(taskStore.get(id))
+     return taskRepository.findById(id)
              .switchIfEmpty(Mono.error(new IllegalArgumentException("Task not found with id: " + id)))
-             .map(task -> {
-                 Task updatedTask = task.updateStatus(newStatus);
-                 taskStore.put(id, updatedTask);
-                 return updatedTask;
-             });
+             .flatMap(task -> updateIfVersionMatches(task, task.updateStatus(newStatus)))
+             .retryWhen(Retry.backoff(2, Duration.ofMillis(10))
+                     .filter(OptimisticLockingFailureException.class::isInstance)
+                     .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+             .doOnSuccess(task -> taskCache.invalidate(id));
+    }
+
+    private Mono<Task> updateIfVersionMatches(Task current, Task updated) {
+        long version = current.getVersion();
+        Criteria sameVersion = Criteria.where("version").is(version);
+        Update update = Update.update("status", updated.getStatus().name())
+                .set("priorityValue", updated.getPriorityValue())
+                .set("priorityLabel", updated.getPriorityLabel())
+                .set("updatedAt", updated.getUpdatedAt())
+                .set("version", version + 1);
+
+        return entityTemplate.update(Task.class)
+                .matching(Query.query(Criteria.where("id").is(current.getId()).and(sameVersion)))
+                .apply(update)
+                .flatMap(updatedRows -> updatedRows == 0
+                        ? Mono.error(new OptimisticLockingFailureException("Task " + current.getId() + " was modified concurrently"))
+                        : taskRepository.findById(current.getId()))
+                .doOnNext(saved -> {
+                    if (saved.getStatus() != current.getStatus()) {
+                        statisticsTracker.onStatusChanged(current.getStatus(), saved.getStatus(), saved.getCreatedAt());
+                        changeFeed.onStatusChanged(saved.getId(), current.getStatus(), saved.getStatus());
+                    }
+                });
     }
 
     public Mono<Void> deleteTask(UUID id){
-        return Mono.fromRunnable(() -> taskStore.remove(id));
+        // /tasks tarafındaki okuma cache'i de aynı görevi tutuyor olabilir.
+        // Silinen satırın status'u RETURNING ile aynı ifadede okunur (istatistikler için);
+        // olmayan görev için istatistik ve change feed güncellenmez.
+        return entityTemplate.getDatabaseClient()
+                .sql("DELETE FROM tasks WHERE id = :id RETURNING status")
+                .bind("id", id)
+                .map(row -> Task.TaskStatus.valueOf(row.get("status", String.class)))
+                .one()
+                .doOnNext(deletedStatus -> {
+                    statisticsTracker.onDeleted(deletedStatus);
+                    titleIndex.remove(id);
+                    changeFeed.onDeleted(id, deletedStatus);
+                })
+                .doFinally(signal -> taskCache.invalidate(id))
+                .then();
     }
 }
@@ -0,0 +1,70 @@
+package com.nurbb.taskmanagerapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nurbb.taskmanagerapp.model.dto.response.TaskCacheStatistics;
+import com.nurbb.taskmanagerapp.model.dto.response.TaskResponseDTO;
+import com.nurbb.taskmanagerapp.model.mapper.TaskResponseMapper;
+import com.nurbb.taskmanagerapp.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+// TaskRepository.findById önünde read-through cache. Entity değil değişmez TaskResponseDTO tutulur,
+// böylece cache'ten dönen nesne persistence context'e bağlı değildir ve paylaşılabilir.
+// Boyut sınırlıdır, Caffeine W-TinyLFU ile sık okunan görevleri tutar. Olmayan görevler cache'lenmez.
+// Yazma yapan servisler commit sonrası invalidate çağırır (put yok: sırası karışan commit sonrası callback'ler
+// eski değeri cache'e yazabilirdi); TTL yalnızca dış yazmalara karşı emniyettir.
+
+@Component
+public class TaskCache {
+
+    private final TaskRepository taskRepository;
+    private final Cache<UUID, TaskResponseDTO> cache;
+
+    public TaskCache(
+            TaskRepository taskRepository,
+            MeterRegistry meterRegistry,
+            @Value("${task.cache.max-size:10000}") long maxSize,
+            @Value("${task.cache.ttl:PT10M}") Duration ttl) {
+        this.taskRepository = taskRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tasks");
+    }
+
+    // Aynı id için eşzamanlı miss'lerde yalnızca bir SQL çalışır; yükleme sürerken gelen invalidate
+    // yükleme bitene kadar bekler, bu yüzden commit öncesi okunmuş eski değer cache'te kalmaz.
+    public Optional<TaskResponseDTO> get(UUID id) {
+        return Optional.ofNullable(cache.get(id, key -> taskRepository.findById(key)
+                .map(TaskResponseMapper.INSTANCE::toDTO)
+                .orElse(null)));
+    }
+
+    public void invalidate(UUID id) {
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll(Iterable<UUID> ids) {
+        cache.invalidateAll(ids);
+    }
+
+    public TaskCacheStatistics getStatistics() {
+        CacheStats stats = cache.stats();
+        return new TaskCacheStatistics(
+                cache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                stats.hitRate());
+    }
+}
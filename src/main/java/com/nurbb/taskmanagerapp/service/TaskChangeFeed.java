@@ -0,0 +1,117 @@
+package com.nurbb.taskmanagerapp.service;
+
+import com.nurbb.taskmanagerapp.model.dto.response.TaskChangeEvent;
+import com.nurbb.taskmanagerapp.model.entity.Task;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Görev değişikliklerinin canlı akışı. TaskService ve ReactiveTaskService commit sonrası buraya yazar;
+// tüm SSE istemcileri tek bir multicast sink'i paylaşır, istemci başına yalnızca değişiklikler gider.
+// Son historySize olay bellekte tutulur: Last-Event-ID ile gelen istemciye önce kaçırdıkları, sonra canlı akış verilir.
+// Sequence atama, geçmişe ekleme ve sink'e yayınlama aynı kilit altında yapılır; yeni abone de geçmiş
+// görüntüsünü alıp sink'e bu kilit altında bağlanır, böylece replay ile canlı akış arasında olay kaybolmaz ya da tekrarlanmaz.
+// Her abonenin kendi sınırlı buffer'ı vardır; yetişemeyen istemcinin bağlantısı hata ile kapanır ve
+// istemci Last-Event-ID ile geri döner, diğer abonelerin akışı etkilenmez.
+// Sequence'lar node'a özeldir ve uygulama yeniden başlayınca sıfırlanır.
+
+@Component
+public class TaskChangeFeed {
+
+    private final Sinks.Many<TaskChangeEvent> sink = Sinks.many().multicast().directBestEffort();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<TaskChangeEvent> history;
+    private final int historySize;
+    private final int subscriberBufferSize;
+    private long sequence;
+
+    public TaskChangeFeed(
+            @Value("${task.changes.history-size:10000}") int historySize,
+            @Value("${task.changes.subscriber-buffer:1024}") int subscriberBufferSize) {
+        this.historySize = historySize;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.history = new ArrayDeque<>(historySize);
+    }
+
+    public void onCreated(Task task) {
+        publish(TaskChangeEvent.ChangeType.CREATED, task.getId(), task.getStatus(), null);
+    }
+
+    public void onStatusChanged(UUID taskId, Task.TaskStatus previousStatus, Task.TaskStatus newStatus) {
+        publish(TaskChangeEvent.ChangeType.STATUS_CHANGED, taskId, newStatus, previousStatus);
+    }
+
+    public void onDeleted(UUID taskId, Task.TaskStatus lastStatus) {
+        publish(TaskChangeEvent.ChangeType.DELETED, taskId, null, lastStatus);
+    }
+
+    private void publish(TaskChangeEvent.ChangeType type, UUID taskId,
+                         Task.TaskStatus status, Task.TaskStatus previousStatus) {
+        lock.lock();
+        try {
+            TaskChangeEvent event = new TaskChangeEvent(
+                    ++sequence, type, taskId, status, previousStatus, LocalDateTime.now());
+            if (history.size() == historySize) {
+                history.removeFirst();
+            }
+            history.addLast(event);
+            sink.tryEmitNext(event); // abone yoksa FAIL_ZERO_SUBSCRIBER, olay yine de geçmişte kalır
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // lastSequence null ise yalnızca bundan sonraki değişiklikler gelir
+    public Flux<TaskChangeEvent> subscribe(Long lastSequence) {
+        return Flux.<TaskChangeEvent>create(emitter -> {
+                    Disposable live;
+                    lock.lock();
+                    try {
+                        replayAfter(lastSequence).forEach(emitter::next);
+                        live = sink.asFlux().subscribe(emitter::next, emitter::error, emitter::complete);
+                    } finally {
+                        lock.unlock();
+                    }
+                    emitter.onDispose(live);
+                })
+                .onBackpressureBuffer(subscriberBufferSize, BufferOverflowStrategy.ERROR);
+    }
+
+    private List<TaskChangeEvent> replayAfter(Long lastSequence) {
+        if (lastSequence == null) {
+            return List.of();
+        }
+        TaskChangeEvent oldest = history.peekFirst();
+        long oldestAvailable = oldest == null ? sequence + 1 : oldest.sequence();
+        if (lastSequence > sequence || lastSequence + 1 < oldestAvailable) {
+            // Bilinmeyen (ör. restart öncesi) ya da geçmişten düşmüş sequence
+            return List.of(resyncRequired());
+        }
+        if (sequence - lastSequence > subscriberBufferSize) {
+            // Kaçırılanlar abonenin buffer'ına sığmıyor; tek tek göndermek yerine baştan yükleme istenir
+            return List.of(resyncRequired());
+        }
+        List<TaskChangeEvent> missed = new ArrayList<>();
+        for (TaskChangeEvent event : history) {
+            if (event.sequence() > lastSequence) {
+                missed.add(event);
+            }
+        }
+        return missed;
+    }
+
+    private TaskChangeEvent resyncRequired() {
+        return new TaskChangeEvent(
+                sequence, TaskChangeEvent.ChangeType.RESYNC_REQUIRED, null, null, null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,228 @@
+package com.nurbb.taskmanagerapp.service;
+
+import com.nurbb.taskmanagerapp.model.projection.TaskSummary;
+import com.nurbb.taskmanagerapp.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Worker'lar için "sıradaki N görevi al" kuyruğu. Yalnızca PENDING görevler sahiplenilir, en eskiden yeniye
+// (created_at, id). PENDING görevlerin priority'si status'tan türediği için hepsi aynıdır; priority sırası yoktur.
+// Adaylar bellekteki bir heap'te tutulur ve veritabanından prefetchSize'lık tek sorguyla toplu doldurulur;
+// claim başına aday seçmek için SQL çalışmaz. Heap'ten alınan adaylar TaskService.claimTasks ile tek bir
+// UPDATE ... FOR UPDATE SKIP LOCKED ifadesinde IN_PROGRESS yapılır: aynı aday iki worker'a (ya da iki node'a)
+// verilse bile yalnızca biri sahiplenir, diğeri kalan adaylarla tekrar dener.
+// Heap refillThreshold altına indiğinde ya da refreshInterval'dan eski olduğunda arka planda yenilenir;
+// tamamen boşaldığında çağıran thread yenilemeyi bekler.
+
+@Slf4j
+@Component
+public class TaskClaimQueue {
+
+    static final int MAX_CLAIM_SIZE = 100;
+    // Aday başka worker'a gittiyse kalanlar için yeniden deneme sınırı
+    private static final int MAX_CLAIM_ROUNDS = 5;
+
+    private static final Comparator<TaskSummary> CLAIM_ORDER = Comparator
+            .comparing(TaskSummary::createdAt)
+            .thenComparing(TaskSummary::id);
+
+    private final TaskRepository taskRepository;
+    private final TaskService taskService;
+    private final int prefetchSize;
+    private final int refillThreshold;
+    private final long refreshIntervalNanos;
+    private final PriorityQueue<TaskSummary> candidates = new PriorityQueue<>(CLAIM_ORDER);
+    private final ReentrantLock candidatesLock = new ReentrantLock();
+    private final ReentrantLock refillLock = new ReentrantLock();
+    // Heap'ten alınmış, UPDATE sonucu henüz dönmemiş adaylar; yenilemede heap'e geri eklenmez
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean refillScheduled = new AtomicBoolean();
+    private final ExecutorService refillExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter claimedCounter;
+    private final Counter conflictCounter;
+    private final Counter refillCounter;
+    private volatile long lastRefillNanos;
+    // Son yenilemede hiç PENDING görev yoktu: boş kuyruğu yoklayan worker'lar refreshInterval boyunca SQL çalıştırmaz
+    private volatile boolean exhausted;
+
+    public TaskClaimQueue(
+            TaskRepository taskRepository,
+            TaskService taskService,
+            MeterRegistry meterRegistry,
+            @Value("${task.claims.prefetch-size:256}") int prefetchSize,
+            @Value("${task.claims.refill-threshold:64}") int refillThreshold,
+            @Value("${task.claims.refresh-interval:PT1S}") Duration refreshInterval) {
+        if (prefetchSize < 1 || refillThreshold < 0 || refillThreshold >= prefetchSize) {
+            throw new IllegalArgumentException(
+                    "task.claims.prefetch-size must be positive and greater than task.claims.refill-threshold.");
+        }
+        this.taskRepository = taskRepository;
+        this.taskService = taskService;
+        this.prefetchSize = prefetchSize;
+        this.refillThreshold = refillThreshold;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.lastRefillNanos = System.nanoTime() - refreshIntervalNanos;
+
+        this.claimedCounter = meterRegistry.counter("task.claims", "outcome", "claimed");
+        this.conflictCounter = meterRegistry.counter("task.claims", "outcome", "conflict");
+        this.refillCounter = meterRegistry.counter("task.claims.refills");
+        meterRegistry.gauge("task.claims.candidates", this, TaskClaimQueue::candidateCount);
+    }
+
+    // Sahiplenilecek görev yoksa boş liste döner.
+    public List<TaskSummary> claim(int count) {
+        if (count < 1 || count > MAX_CLAIM_SIZE) {
+            throw new IllegalArgumentException("Claim count must be between 1 and " + MAX_CLAIM_SIZE + ".");
+        }
+
+        List<TaskSummary> claimed = new ArrayList<>(count);
+        for (int round = 0; round < MAX_CLAIM_ROUNDS && claimed.size() < count; round++) {
+            List<TaskSummary> taken = take(count - claimed.size());
+            if (taken.isEmpty()) {
+                break;
+            }
+            List<UUID> ids = taken.stream().map(TaskSummary::id).toList();
+            try {
+                List<TaskSummary> won = taskService.claimTasks(ids);
+                claimed.addAll(won);
+                claimedCounter.increment(won.size());
+                conflictCounter.increment(taken.size() - won.size());
+                if (won.isEmpty()) {
+                    // Adayların hiçbiri alınamadıysa heap bayattır (başka node aldı / görevler değişti), baştan yüklenir
+                    discardCandidates();
+                }
+            } finally {
+                ids.forEach(inFlight::remove);
+            }
+        }
+        claimed.sort(CLAIM_ORDER);
+        return claimed;
+    }
+
+    private List<TaskSummary> take(int count) {
+        List<TaskSummary> taken = poll(count);
+        if (taken.size() < count) {
+            // Heap boşaldı: güncel adaylar gelene kadar beklenir
+            refill(true);
+            taken.addAll(poll(count - taken.size()));
+        } else if (needsRefill()) {
+            scheduleRefill();
+        }
+        return taken;
+    }
+
+    private List<TaskSummary> poll(int count) {
+        List<TaskSummary> taken = new ArrayList<>(count);
+        candidatesLock.lock();
+        try {
+            while (taken.size() < count) {
+                TaskSummary next = candidates.poll();
+                if (next == null) {
+                    break;
+                }
+                inFlight.add(next.id());
+                taken.add(next);
+            }
+        } finally {
+            candidatesLock.unlock();
+        }
+        return taken;
+    }
+
+    private void discardCandidates() {
+        candidatesLock.lock();
+        try {
+            candidates.clear();
+        } finally {
+            candidatesLock.unlock();
+        }
+        exhausted = false;
+    }
+
+    private boolean needsRefill() {
+        return candidateCount() <= refillThreshold || System.nanoTime() - lastRefillNanos >= refreshIntervalNanos;
+    }
+
+    private int candidateCount() {
+        candidatesLock.lock();
+        try {
+            return candidates.size();
+        } finally {
+            candidatesLock.unlock();
+        }
+    }
+
+    private void scheduleRefill() {
+        if (refillScheduled.compareAndSet(false, true)) {
+            refillExecutor.execute(() -> {
+                try {
+                    refill(false);
+                } catch (RuntimeException e) {
+                    log.warn("Claim candidate refill failed", e);
+                } finally {
+                    refillScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    // Aynı anda tek yenileme çalışır; kilidi bekleyen thread'ler bu arada yapılmış yenilemeyi tekrar etmez.
+    // Heap, veritabanındaki güncel ilk prefetchSize (sahiplenilmekte olanlar hariç) aday ile değiştirilir (sahiplenilmiş / tamamlanmış eski adaylar düşer).
+    private void refill(boolean drained) {
+        long requestedAt = System.nanoTime();
+        refillLock.lock();
+        try {
+            boolean refreshedMeanwhile = lastRefillNanos - requestedAt > 0;
+            // Heap boş değilse ve güncelse, içinde olmayan daha eski aday veritabanında da yoktur
+            boolean fresh = refreshedMeanwhile || System.nanoTime() - lastRefillNanos < refreshIntervalNanos;
+            if (drained ? fresh && (exhausted || candidateCount() > 0) : refreshedMeanwhile || !needsRefill()) {
+                return;
+            }
+            // Sahiplenme sonucu bekleyen adaylar da sorgudan döner ve heap'e eklenmez; sorgu onlar kadar fazla okur.
+            // inFlight bu arada büyüyüp heap yine boş kalırsa daha geniş bir sorguyla tekrar denenir.
+            int limit = prefetchSize + inFlight.size();
+            List<TaskSummary> loaded = taskRepository.findClaimCandidates(Limit.of(limit));
+            for (int round = 1; fillCandidates(loaded) == 0 && loaded.size() == limit && round < MAX_CLAIM_ROUNDS; round++) {
+                limit = loaded.size() + prefetchSize + inFlight.size();
+                loaded = taskRepository.findClaimCandidates(Limit.of(limit));
+            }
+            exhausted = loaded.isEmpty();
+            lastRefillNanos = System.nanoTime();
+            refillCounter.increment();
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private int fillCandidates(List<TaskSummary> loaded) {
+        candidatesLock.lock();
+        try {
+            candidates.clear();
+            for (TaskSummary candidate : loaded) {
+                if (!inFlight.contains(candidate.id())) {
+                    candidates.add(candidate);
+                }
+            }
+            return candidates.size();
+        } finally {
+            candidatesLock.unlock();
+        }
+    }
+}
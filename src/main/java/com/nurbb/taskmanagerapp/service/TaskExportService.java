@@ -0,0 +1,97 @@
+package com.nurbb.taskmanagerapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nurbb.taskmanagerapp.model.dto.response.TaskResponseDTO;
+import com.nurbb.taskmanagerapp.model.entity.Task;
+import com.nurbb.taskmanagerapp.model.mapper.ManualTaskMapper;
+import com.nurbb.taskmanagerapp.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Tüm görev tablosunu analitik için dışarı aktarır.
+// Satırlar forward-only JDBC cursor ile okunur ve okundukça response'a yazılır;
+// her entity yazıldıktan sonra persistence context'ten ayrılır (detach), böylece bellek tablo boyutundan bağımsız kalır.
+
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    private static final int FLUSH_INTERVAL = 1000;
+    private static final String CSV_HEADER = "id,title,description,status,createdAt,priorityValue,priorityLabel";
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public enum ExportFormat {
+        NDJSON, CSV
+    }
+
+    // Stream yalnızca açık bir transaction içinde tüketilebilir; cursor transaction boyunca açık kalır
+    @Transactional
+    public void exportTasks(ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<Task> tasks = taskRepository.streamAllForExport()) {
+            Iterator<Task> iterator = tasks.iterator();
+            long written = 0;
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, task);
+                } else {
+                    writeJsonLine(writer, task);
+                }
+                entityManager.detach(task);
+
+                if (++written % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeJsonLine(Writer writer, Task task) throws IOException {
+        TaskResponseDTO dto = ManualTaskMapper.toDTO(task);
+        writer.write(objectMapper.writeValueAsString(dto));
+        writer.write('\n');
+    }
+
+    private void writeCsvRow(Writer writer, Task task) throws IOException {
+        writer.write(String.join(",",
+                String.valueOf(task.getId()),
+                escapeCsv(task.getTitle()),
+                escapeCsv(task.getDescription()),
+                String.valueOf(task.getStatus()),
+                String.valueOf(task.getCreatedAt()),
+                String.valueOf(task.getPriorityValue()),
+                escapeCsv(task.getPriorityLabel())));
+        writer.write('\n');
+    }
+
+    private static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
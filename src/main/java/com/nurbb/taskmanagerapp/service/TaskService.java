@@ -1,40 +1,78 @@
 package com.nurbb.taskmanagerapp.service;
 
+import com.nurbb.taskmanagerapp.model.dto.request.TaskCursor;
+import com.nurbb.taskmanagerapp.model.dto.request.TaskRequest;
+import com.nurbb.taskmanagerapp.model.dto.response.TaskBatchResponse;
+import com.nurbb.taskmanagerapp.model.dto.response.TaskCacheStatistics;
+import com.nurbb.taskmanagerapp.model.dto.response.TaskEventListenerStatistics;
+import com.nurbb.taskmanagerapp.model.dto.response.TaskPage;
 import com.nurbb.taskmanagerapp.model.dto.response.TaskResponseDTO;
 import com.nurbb.taskmanagerapp.model.dto.response.TaskStatistics;
+import com.nurbb.taskmanagerapp.model.dto.response.TaskStatusCount;
 import com.nurbb.taskmanagerapp.model.entity.Task;
+import com.nurbb.taskmanagerapp.model.entity.TaskOutboxEvent;
 import com.nurbb.taskmanagerapp.model.exception.TaskStatusNotAvailableException;
+import com.nurbb.taskmanagerapp.model.exception.TaskVersionConflictException;
 import com.nurbb.taskmanagerapp.model.mapper.ManualTaskMapper;
 import com.nurbb.taskmanagerapp.model.mapper.TaskResponseMapper;
+import com.nurbb.taskmanagerapp.model.projection.TaskSummary;
 import com.nurbb.taskmanagerapp.repository.TaskRepository;
+import com.nurbb.taskmanagerapp.service.event.TaskEventDispatcher;
+import com.nurbb.taskmanagerapp.service.outbox.TaskOutboxWriter;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 //CRUD
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
     private final TaskRepository taskRepository;
-    private final List<Consumer<Task>> taskCreationListeners = new ArrayList<>();
-    private final List<Consumer<Task>> taskCompletionListeners = new ArrayList<>();
+    private final TaskStatisticsTracker statisticsTracker;
+    private final TaskTitleIndex titleIndex;
+    private final TaskCache taskCache;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrencyRetryPolicy retryPolicy;
+    private final TaskEventDispatcher taskEvents;
+    private final TaskOutboxWriter outboxWriter;
+    private final TaskChangeFeed changeFeed;
+    private final ExecutorService asyncExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_BATCH_SIZE = 10_000;
+    // hibernate.jdbc.batch_size ile aynı tutulur: her chunk tek bir JDBC batch olarak gider
+    static final int BATCH_CHUNK_SIZE = 500;
+    static final int MAX_BULK_STATUS_UPDATE = 1_000;
 
 // OBSERVER PATTERN:
 // Task ile ilgili bir şey yapıldığında o olayın sonucu olarak başka şeylerin sistem içinde tetiklenmesini sağlamak
 // geleneksel olarak her işlem sonrası manuel olarak diğer servisleri çağırma ihtiyacını ortadan kaldırır (event-driven)
 // exp: Task completed >>loglama yapılması ve kullanıcıya notif gönderilmesi Task Service bunları bilmez
 // onun yerine service'e Consumer <Task> tipinde fonk eklenir. Görev tamamlanınca bu fonk otomatik tetiklenir
+// Listener'lar transaction içinde çağrılmaz: olaylar commit sonrası TaskEventDispatcher kuyruklarına bırakılır,
+// rollback olan işlemler için olay yayınlanmaz.
+// JVM commit ile listener arasında düşerse bu olaylar kaybolur; kaybolmaması gereken tüketiciler
+// aynı transaction'da yazılan outbox kayıtlarını TaskOutboxConsumer olarak alır.
 
 
     // İşlemin tek bir bütün olarak yürütülmesini sağlar.
@@ -48,43 +86,255 @@ public class TaskService {
                 .description(description)
                 .build();
         Task savedTask = taskRepository.save(task);
+        outboxWriter.append(savedTask, TaskOutboxEvent.EventType.TASK_CREATED);
 
-        taskCreationListeners.forEach(listener -> listener.accept(savedTask));
+        TransactionCallbacks.afterCommit(() -> {
+            statisticsTracker.onCreated(savedTask.getStatus(), savedTask.getCreatedAt());
+            titleIndex.add(savedTask.getId(), savedTask.getTitle());
+            taskEvents.taskCreated().publish(savedTask);
+            changeFeed.onCreated(savedTask);
+        });
 
         return ManualTaskMapper.toDTO(savedTask); //Dışarıya gönderilmeden önce Dto ya çevirilir
     }
 
-    public List<TaskResponseDTO> getAllTasks() {
-        return TaskResponseMapper.INSTANCE.toDTOList(taskRepository.findAll());
-        //Mapper ile repo’dan gelen tüm görevler DTO’ya çevrilir ve response olarak döner
+    public TaskPage getAllTasks(String cursor, Integer size) {
+        int pageSize = normalizePageSize(size);
+        Limit limit = Limit.of(pageSize + 1); // bir fazlası okunur, sonraki sayfa var mı anlaşılır
+        if (cursor == null) {
+            return toPage(taskRepository.findFirstPage(limit), pageSize);
+        }
+        TaskCursor after = TaskCursor.decode(cursor);
+        return toPage(taskRepository.findPageAfter(after.createdAt(), after.id(), limit), pageSize);
+        //Mapper ile repo’dan gelen sayfa DTO’ya çevrilir ve response olarak döner
     }
 
 
     public TaskResponseDTO getTaskById(UUID id) {
-        return taskRepository.findById(id)
-                .map(TaskResponseMapper.INSTANCE::toDTO)
-                .orElse(null);
+        return taskCache.get(id).orElse(null);
+    }
+
+    public TaskCacheStatistics getTaskCacheStatistics() {
+        return taskCache.getStatistics();
+    }
+
+    public List<TaskEventListenerStatistics> getTaskEventStatistics() {
+        return taskEvents.getStatistics();
+    }
+
+    // Toplu görev oluşturma: tüm istek önce doğrulanır, sonra BATCH_CHUNK_SIZE'lık parçalar halinde
+    // her biri kendi kısa transaction'ında JDBC batch insert ile yazılır.
+    // Bir parça hata verirse önceki parçalar commit edilmiş olarak kalır ve kalan parçalar yazılmaz;
+    // sonuç commit edilen id'leri ve yazılamayan ilk isteğin sırasını taşır (istemci yalnızca kalanı yeniden dener).
+    // Batch listener'lar her commit edilen parça için bir kez çağrılır.
+    public TaskBatchResponse createTasks(List<TaskRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Task batch cannot be empty.");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Task batch cannot contain more than " + MAX_BATCH_SIZE + " tasks.");
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest request = requests.get(i);
+            try {
+                if (request == null) {
+                    throw new IllegalArgumentException("Task cannot be null.");
+                }
+                validateTaskInput(request.getTitle(), request.getDescription());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid task at index " + i + ": " + e.getMessage());
+            }
+        }
+
+        List<UUID> ids = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += BATCH_CHUNK_SIZE) {
+            List<TaskRequest> chunk = requests.subList(from, Math.min(from + BATCH_CHUNK_SIZE, requests.size()));
+            List<Task> saved;
+            try {
+                saved = transactionTemplate.execute(status -> persistChunk(chunk));
+            } catch (RuntimeException e) {
+                log.warn("Task batch chunk starting at index {} failed after {} tasks were committed", from, ids.size(), e);
+                return TaskBatchResponse.failedAt(ids, from, e.getClass().getSimpleName());
+            }
+            for (Task task : saved) {
+                ids.add(task.getId());
+            }
+        }
+        return TaskBatchResponse.completed(ids);
+    }
+
+    // persist (merge değil) kullanılır: id builder'da atandığı için save() her satır için önce SELECT yapardı
+    private List<Task> persistChunk(List<TaskRequest> chunk) {
+        List<Task> tasks = new ArrayList<>(chunk.size());
+        for (TaskRequest request : chunk) {
+            Task task = Task.builder()
+                    .title(request.getTitle())
+                    .description(request.getDescription())
+                    .build();
+            entityManager.persist(task);
+            tasks.add(task);
+        }
+        outboxWriter.appendAll(tasks, TaskOutboxEvent.EventType.TASK_CREATED);
+        entityManager.flush();
+        entityManager.clear();
+
+        TransactionCallbacks.afterCommit(() -> {
+            tasks.forEach(task -> {
+                statisticsTracker.onCreated(task.getStatus(), task.getCreatedAt());
+                titleIndex.add(task.getId(), task.getTitle());
+                changeFeed.onCreated(task);
+            });
+            taskEvents.tasksBatchCreated().publish(tasks);
+        });
+        return tasks;
     }
 
-    @Transactional
     public Task updateTaskStatus(UUID id, Task.TaskStatus newStatus) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Task not found with id: " + id));
-
-         if(task.getStatus() == Task.TaskStatus.BLOCKED){
-             throw new TaskStatusNotAvailableException("Task is not found with id: " + id);
-         }
-         Task updatedTask = task.updateStatus(newStatus);
-         Task savedTask = taskRepository.save(updatedTask);
-
-         if(newStatus == Task.TaskStatus.COMPLETED){
-             taskCompletionListeners.forEach(listener -> listener.accept(savedTask));
-         }
-         return savedTask;
+        return updateTaskStatus(id, newStatus, null);
+    }
+
+    // Önce okuyup sonra kaydetmek yerine tek bir şartlı UPDATE çalışır; eşzamanlı istekler son yazan kazanır
+    // şeklinde birbirini ezmez. expectedVersion verilirse görev bu arada değişmişse TaskVersionConflictException.
+    // Kilit çakışmaları transaction dışından ConcurrencyRetryPolicy ile sınırlı sayıda yeniden denenir.
+    public Task updateTaskStatus(UUID id, Task.TaskStatus newStatus, Long expectedVersion) {
+        if (newStatus == null) {
+            throw new IllegalArgumentException("Target status cannot be empty.");
+        }
+        return retryPolicy.execute(() ->
+                transactionTemplate.execute(status -> transitionStatus(id, newStatus, expectedVersion)));
+    }
+
+    private Task transitionStatus(UUID id, Task.TaskStatus newStatus, Long expectedVersion) {
+        Task.Priority priority = Task.priorityFor(newStatus);
+        List<Object[]> rows = taskRepository.transitionStatus(
+                id, newStatus.name(), priority.getValue(), priority.getLabel(), expectedVersion);
+
+        if (rows.isEmpty()) {
+            // Güncelleme olmadıysa nedeni ancak şimdi okunur (başarılı yolda ön SELECT yok)
+            Task current = taskRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("Task not found with id: " + id));
+            if (current.getStatus() == Task.TaskStatus.BLOCKED) {
+                throw new TaskStatusNotAvailableException("Task is not found with id: " + id);
+            }
+            if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+                throw new TaskVersionConflictException(id, expectedVersion, current.getVersion());
+            }
+            return current; // zaten hedef status'ta
+        }
+
+        Object[] row = rows.getFirst();
+        Task.TaskStatus oldStatus = Task.TaskStatus.valueOf(String.valueOf(row[1]));
+        // Yanıt UPDATE ... RETURNING ile dönen satırdan kurulur, başarılı yolda ikinci bir SELECT yok
+        Task savedTask = Task.builder()
+                .id((UUID) row[0])
+                .title((String) row[2])
+                .description((String) row[3])
+                .status(newStatus)
+                .createdAt(NativeQueryValues.toLocalDateTime(row[4]))
+                .updatedAt(NativeQueryValues.toLocalDateTime(row[5]))
+                .priorityValue(priority.getValue())
+                .priorityLabel(priority.getLabel())
+                .version(((Number) row[6]).longValue())
+                .build();
+        if(newStatus == Task.TaskStatus.COMPLETED){
+            outboxWriter.append(savedTask, TaskOutboxEvent.EventType.TASK_COMPLETED);
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            statisticsTracker.onStatusChanged(oldStatus, newStatus, savedTask.getCreatedAt());
+            taskCache.invalidate(id);
+            changeFeed.onStatusChanged(id, oldStatus, newStatus);
+            if(newStatus == Task.TaskStatus.COMPLETED){
+                taskEvents.taskCompleted().publish(savedTask);
+            }
+        });
+        return savedTask;
+    }
+
+    // Tek bir şartlı UPDATE ile toplu status değişikliği; yalnızca gerçekten değişen id'ler döner
+    // ve completion listener'lar tam olarak bu görevler için çağrılır.
+    @Transactional
+    public List<UUID> updateTaskStatuses(Collection<UUID> ids, Task.TaskStatus newStatus) {
+        if (newStatus == null) {
+            throw new IllegalArgumentException("Target status cannot be empty.");
+        }
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        if (ids.size() > MAX_BULK_STATUS_UPDATE) {
+            throw new IllegalArgumentException("Cannot update more than " + MAX_BULK_STATUS_UPDATE + " tasks at once.");
+        }
+
+        Task.Priority priority = Task.priorityFor(newStatus);
+        List<Object[]> rows = taskRepository.transitionStatuses(
+                new HashSet<>(ids), newStatus.name(), priority.getValue(), priority.getLabel());
+
+        List<UUID> changedIds = new ArrayList<>(rows.size());
+        List<Task.TaskStatus> previousStatuses = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            changedIds.add((UUID) row[0]);
+            previousStatuses.add(Task.TaskStatus.valueOf(String.valueOf(row[1])));
+        }
+
+        List<Task> completedTasks = newStatus == Task.TaskStatus.COMPLETED && !changedIds.isEmpty()
+                ? taskRepository.findAllById(changedIds)
+                : List.of();
+        outboxWriter.appendAll(completedTasks, TaskOutboxEvent.EventType.TASK_COMPLETED);
+        TransactionCallbacks.afterCommit(() -> {
+            for (int i = 0; i < changedIds.size(); i++) {
+                statisticsTracker.onStatusChanged(previousStatuses.get(i), newStatus, null);
+                changeFeed.onStatusChanged(changedIds.get(i), previousStatuses.get(i), newStatus);
+            }
+            taskCache.invalidateAll(changedIds);
+            completedTasks.forEach(taskEvents.taskCompleted()::publish);
+        });
+        return changedIds;
+    }
+
+    // Aday görevlerden hâlâ PENDING olanlar tek ifadede IN_PROGRESS yapılır (TaskClaimQueue).
+    // Başka bir worker'ın kilitlediği ya da zaten sahiplendiği görevler atlanır; yalnızca bu çağrının aldıkları döner.
+    @Transactional
+    public List<TaskSummary> claimTasks(Collection<UUID> candidateIds) {
+        if (candidateIds == null || candidateIds.isEmpty()) {
+            return List.of();
+        }
+        if (candidateIds.size() > MAX_BULK_STATUS_UPDATE) {
+            throw new IllegalArgumentException("Cannot claim more than " + MAX_BULK_STATUS_UPDATE + " tasks at once.");
+        }
+
+        Task.Priority priority = Task.priorityFor(Task.TaskStatus.IN_PROGRESS);
+        List<Object[]> rows = taskRepository.claimPendingTasks(
+                new HashSet<>(candidateIds), priority.getValue(), priority.getLabel());
+
+        List<TaskSummary> claimed = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            claimed.add(new TaskSummary((UUID) row[0], (String) row[1], Task.TaskStatus.IN_PROGRESS,
+                    NativeQueryValues.toLocalDateTime(row[2]), priority));
+        }
+
+        TransactionCallbacks.afterCommit(() -> {
+            for (TaskSummary task : claimed) {
+                statisticsTracker.onStatusChanged(Task.TaskStatus.PENDING, Task.TaskStatus.IN_PROGRESS, task.createdAt());
+                changeFeed.onStatusChanged(task.id(), Task.TaskStatus.PENDING, Task.TaskStatus.IN_PROGRESS);
+            }
+            taskCache.invalidateAll(claimed.stream().map(TaskSummary::id).toList());
+        });
+        return claimed;
     }
+
+    // Silme tek bir DELETE ... RETURNING ile yapılır; commit sonrası işler yalnızca satır gerçekten silindiyse kaydedilir
     @Transactional
     public void deleteTaskById(UUID id) {
-        taskRepository.deleteById(id);
+        List<String> deleted = taskRepository.deleteByIdReturningStatus(id);
+        if (deleted.isEmpty()) {
+            return;
+        }
+        Task.TaskStatus status = Task.TaskStatus.valueOf(deleted.getFirst());
+        TransactionCallbacks.afterCommit(() -> {
+            statisticsTracker.onDeleted(status);
+            titleIndex.remove(id);
+            taskCache.invalidate(id);
+            changeFeed.onDeleted(id, status);
+        });
     }
 
     //Empty title ve descp önlenmesi için
@@ -97,71 +347,112 @@ public class TaskService {
             throw new IllegalArgumentException("Task description cannot empty.");
         }
     }
-    public List<TaskResponseDTO> getTasksByStatus(Task.TaskStatus status) {
-        return taskRepository.findByStatus(status).stream()
-                .map(TaskResponseMapper.INSTANCE::toDTO)
-                .collect(Collectors.toList());
-    } //birden fazla olabileceği için dönüş tipi list buduktan sonra da collect ediyoruz
+    public TaskPage getTasksByStatus(Task.TaskStatus status, String cursor, Integer size) {
+        int pageSize = normalizePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        if (cursor == null) {
+            return toPage(taskRepository.findFirstPageByStatus(status, limit), pageSize);
+        }
+        TaskCursor after = TaskCursor.decode(cursor);
+        return toPage(taskRepository.findPageByStatusAfter(status, after.createdAt(), after.id(), limit), pageSize);
+    } //birden fazla olabileceği için sayfa halinde dönüyoruz
+
+    private int normalizePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive.");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private TaskPage toPage(List<TaskSummary> tasks, int pageSize) {
+        if (tasks.size() <= pageSize) {
+            return new TaskPage(tasks, null);
+        }
+        List<TaskSummary> pageTasks = List.copyOf(tasks.subList(0, pageSize));
+        TaskSummary last = pageTasks.get(pageSize - 1);
+        return new TaskPage(pageTasks, new TaskCursor(last.createdAt(), last.id()).encode());
+    }
 
+    // Başlık araması bellek içi trigram index üzerinden yapılır; 3 karakterden kısa sorgular ve index henüz
+    // kurulmadıysa (ya da boyut sınırını aştıysa) veritabanına düşülür
     public Optional<TaskResponseDTO> findTaskByTitle(String title) {
-        return taskRepository.findByTitleContainingIgnoreCase(title).stream()
+        if (!titleIndex.supports(title)) {
+            return searchTitlesInDatabase(title, 0, 1).stream().findFirst();
+        }
+        return titleIndex.search(title, 0, 1).stream()
                 .findFirst()
+                .flatMap(taskRepository::findById)
                 .map(TaskResponseMapper.INSTANCE::toDTO);
     }
-     public List<TaskResponseDTO> getTasksByPriority(int priorityValue) {
-        return taskRepository.findTasksByPriorityValue(priorityValue).stream()
+
+    // Sıralı ve sayfalı başlık araması, en fazla TaskTitleIndex.MAX_TOP_K sonuç
+    public List<TaskResponseDTO> searchTasksByTitle(String query, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Invalid page request.");
+        }
+        int pageSize = Math.min(size, TaskTitleIndex.MAX_TOP_K);
+        if (!titleIndex.supports(query)) {
+            return searchTitlesInDatabase(query, page, pageSize);
+        }
+        List<UUID> rankedIds = titleIndex.search(query, page * pageSize, pageSize);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Task> tasksById = new HashMap<>();
+        taskRepository.findAllById(rankedIds).forEach(task -> tasksById.put(task.getId(), task));
+        return rankedIds.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .map(TaskResponseMapper.INSTANCE::toDTO)
+                .toList();
+    }
+
+    // Index fallback'i: sıralama skor yerine oluşturulma zamanına göredir, tarama sayfa boyutuyla sınırlıdır
+    private List<TaskResponseDTO> searchTitlesInDatabase(String query, int page, int size) {
+        if (query == null || query.isEmpty()) {
+            return List.of();
+        }
+        return taskRepository.findByTitleContainingIgnoreCase(query,
+                        PageRequest.of(page, size, Sort.by("createdAt", "id"))).stream()
                 .map(TaskResponseMapper.INSTANCE::toDTO)
-                .collect(Collectors.toList());
+                .toList();
+    }
+
+     public List<TaskSummary> getTasksByPriority(int priorityValue) {
+        return taskRepository.findTasksByPriorityValue(priorityValue);
      }
-     @Transactional
+    // İstatistikler bellekteki sayaçlardan okunur, istek başına SQL çalışmaz (bkz. TaskStatisticsTracker)
     public Map<String,Object> getTaskStatusStatistics() {
-        List<Object[]> rawStatus = taskRepository.getTaskStatusStatistics();
-
-        Map<String,Object> formattedStats = new HashMap<>();
-        formattedStats.put("totalTasks", taskRepository.count());
-
-        List<Map<String,Object>> statusStats = rawStatus.stream()
-                .map(row ->{
-            Map<String,Object> stat = new HashMap<>();
-            stat.put("status", row[0]);
-            stat.put("count", row[1]);
-            stat.put("oldestTask", row[2]);
-            stat.put("newestTask", row[3]);
-            return stat;
-
-         })
-                .collect(Collectors.toList());
-        formattedStats.put("statusBreakdown", statusStats);
-        return formattedStats;
+        return statisticsTracker.getStatusStatistics();
      }
 
      public void addTaskCreationListener(Consumer<Task> taskCreationListener) {
-        taskCreationListeners.add(taskCreationListener);
+        taskEvents.taskCreated().subscribe(taskCreationListener);
      }
 
-     public void addTaskCompletionListener(Consumer<Task> taskCompletionListener) {
-        taskCompletionListeners.add(taskCompletionListener);
+     public void addTaskBatchCreationListener(Consumer<List<Task>> taskBatchCreationListener) {
+        taskEvents.tasksBatchCreated().subscribe(taskBatchCreationListener);
      }
 
-     public TaskStatistics getTaskStatistics() {
-        long total = taskRepository.count();
-        long pending = taskRepository.countByStatus(Task.TaskStatus.PENDING);
-        long inProgress = taskRepository.countByStatus(Task.TaskStatus.IN_PROGRESS);
-        long blocked = taskRepository.countByStatus(Task.TaskStatus.BLOCKED);
-        long completed = taskRepository.countByStatus(Task.TaskStatus.COMPLETED);
-
-        return new TaskStatistics(total, pending, inProgress, blocked, completed);
+     public void addTaskCompletionListener(Consumer<Task> taskCompletionListener) {
+        taskEvents.taskCompleted().subscribe(taskCompletionListener);
      }
 
-     private long countTasksByStatus(Task.TaskStatus status,List<Task> tasks) {
-        return tasks.stream()
-                .filter(task -> task.getStatus() == status)
-                .count();
+     public TaskStatistics getTaskStatistics() {
+        return statisticsTracker.getStatistics();
      }
 
+     // Sayım veritabanında tek bir GROUP BY ile yapılır, görevler belleğe yüklenmez
      public String generateTaskReport() {
-        List<Task> tasks = taskRepository.findAll();
-        int taskSize = tasks.size();
+        Map<Task.TaskStatus, Long> counts = new EnumMap<>(Task.TaskStatus.class);
+        for (TaskStatusCount row : taskRepository.countTasksGroupedByStatus()) {
+            counts.put(row.status(), row.count());
+        }
+        long taskSize = counts.values().stream().mapToLong(Long::longValue).sum();
          return """
                 TASK MANAGEMENT REPORT
                 ----------------------
@@ -174,18 +465,19 @@ public class TaskService {
                 Last Updated: %s
                 """.formatted(
                  taskSize,
-                 countTasksByStatus(Task.TaskStatus.PENDING, tasks),
-                 countTasksByStatus(Task.TaskStatus.IN_PROGRESS, tasks),
-                 countTasksByStatus(Task.TaskStatus.BLOCKED, tasks),
-                 countTasksByStatus(Task.TaskStatus.COMPLETED, tasks),
+                 counts.getOrDefault(Task.TaskStatus.PENDING, 0L),
+                 counts.getOrDefault(Task.TaskStatus.IN_PROGRESS, 0L),
+                 counts.getOrDefault(Task.TaskStatus.BLOCKED, 0L),
+                 counts.getOrDefault(Task.TaskStatus.COMPLETED, 0L),
                  LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
     }
 
     public String getTaskDescription(Object taskIdentifier){
         switch (taskIdentifier){
             case UUID id ->{
-                Task task = taskRepository.findById(id).get();
-                return task != null ? task.getDescription() : "Task not found";
+                return taskCache.get(id)
+                        .map(TaskResponseDTO::description)
+                        .orElse("Task not found");
             }
             case String title -> {
                 return findTaskByTitle(title)
@@ -197,16 +489,20 @@ public class TaskService {
             }
         }
     }
-    public CompletableFuture<List<TaskResponseDTO>> getTasksAsync() {
-        return CompletableFuture.supplyAsync(this::getAllTasks, Executors.newVirtualThreadPerTaskExecutor());
+    public CompletableFuture<TaskPage> getTasksAsync(String cursor, Integer size) {
+        // Geçersiz istekler thread'e gönderilmeden, çağıran tarafta hata verir
+        normalizePageSize(size);
+        if (cursor != null) {
+            TaskCursor.decode(cursor);
+        }
+        return CompletableFuture.supplyAsync(() -> getAllTasks(cursor, size), asyncExecutor);
     }
 
     public String describeTask(Object obj){
         return switch (obj){
-            case UUID id ->{
-                Task task = taskRepository.findById(id).get();
-                yield task != null ? task.getTitle() : "Unknown Task";
-            }
+            case UUID id -> taskCache.get(id)
+                    .map(TaskResponseDTO::title)
+                    .orElse("Unknown Task");
             case Task task -> "Task: " + task.getTitle() + "("+ task.getStatus() + ")";
             default -> "Unknown Object";
         };
@@ -228,51 +524,34 @@ public class TaskService {
     }
 
     public String getTaskSummary(UUID id){
-        Task task = taskRepository.findById(id).get();
-        if(task==null){
-            throw  new IllegalArgumentException("Task not found with ID: " + id);
-        }
-        return "Task:" + task.getTitle()+"Status:"+task.getStatus();
+        TaskResponseDTO task = taskCache.get(id)
+                .orElseThrow(() -> new IllegalArgumentException("Task not found with ID: " + id));
+        return "Task:" + task.title()+"Status:"+task.status();
     }
 
     public boolean hasTaskWithStatus(Task.TaskStatus status){
-        List<Task> tasks = taskRepository.findAll();
-        return tasks.stream()
-                .anyMatch(task -> switch (task) {
-                    case Task t when t.getStatus() == status -> true;
-                    default -> false;
-                });
-
+        return taskRepository.existsByStatus(status);
     }
 
-    public Map<Task.TaskStatus,List<TaskResponseDTO>> groupTasksByStatus(){
-        List<Task> tasks = taskRepository.findAll();
-        return tasks.stream()
-                .collect(Collectors.groupingBy(
-                        Task::getStatus,
-                        Collectors.mapping(TaskResponseMapper.INSTANCE::toDTO, Collectors.toList())
-                ));
+    // Her status için yalnızca ilk sayfa döner; devamı nextCursor ile /tasks/status/{status} üzerinden alınır
+    public Map<Task.TaskStatus,TaskPage> groupTasksByStatus(Integer size){
+        Map<Task.TaskStatus, TaskPage> groups = new EnumMap<>(Task.TaskStatus.class);
+        for (Task.TaskStatus status : Task.TaskStatus.values()) {
+            groups.put(status, getTasksByStatus(status, null, size));
+        }
+        return groups;
     }
 
     public Task.Priority getTaskPriorityObject(UUID id) {
-        Task task = taskRepository.findById(id).get();
-        if(task == null){
-            throw  new IllegalArgumentException("Task not found with ID: " + id);
-        }
+        TaskResponseDTO task = taskCache.get(id)
+                .orElseThrow(() -> new IllegalArgumentException("Task not found with ID: " + id));
 
-        return switch (task.getStatus()) {
-            case PENDING, COMPLETED -> new Task.LowPriority();
-            case IN_PROGRESS -> new Task.MediumPriority();
-            case BLOCKED -> new Task.HighPriority();
-        };
+        return task.priority();
     }
 
     public Task updateTaskPriority(UUID id, Task.Priority priority){
-        Task task = taskRepository.findById(id).get();
-        if(task==null){
-            throw  new IllegalArgumentException("Task not found with ID: " + id);
-        }
-        return task;
+        return taskRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Task not found with ID: " + id));
     }
 
 }
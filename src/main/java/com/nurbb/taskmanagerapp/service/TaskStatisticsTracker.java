@@ -0,0 +1,128 @@
+package com.nurbb.taskmanagerapp.service;
+
+import com.nurbb.taskmanagerapp.model.dto.response.TaskStatistics;
+import com.nurbb.taskmanagerapp.model.entity.Task;
+import com.nurbb.taskmanagerapp.repository.TaskRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Status başına görev sayaçları bellekte tutulur; TaskService create / status değişikliği / delete
+// işlemlerinde commit sonrası günceller. Dashboard'ların sürekli sorguladığı istatistik endpoint'leri
+// bu sayaçlardan okunur, istek başına SQL çalışmaz.
+// Sayaçlar periyodik olarak tek bir GROUP BY sorgusuyla veritabanına göre düzeltilir (reconcile),
+// bu yüzden başka bir node ya da doğrudan SQL ile yapılan değişiklikler en geç bir periyot sonra yansır.
+
+@Component
+public class TaskStatisticsTracker {
+
+    private final TaskRepository taskRepository;
+    private final Map<Task.TaskStatus, StatusCounter> counters = new EnumMap<>(Task.TaskStatus.class);
+
+    public TaskStatisticsTracker(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+        for (Task.TaskStatus status : Task.TaskStatus.values()) {
+            counters.put(status, new StatusCounter());
+        }
+    }
+
+    // createdAt bilinmiyorsa (toplu SQL update) yalnızca sayaç güncellenir, oldest/newest reconcile ile düzelir
+    public void onCreated(Task.TaskStatus status, LocalDateTime createdAt) {
+        StatusCounter counter = counters.get(status);
+        counter.count.incrementAndGet();
+        if (createdAt == null) {
+            return;
+        }
+        counter.oldest.accumulateAndGet(createdAt, TaskStatisticsTracker::min);
+        counter.newest.accumulateAndGet(createdAt, TaskStatisticsTracker::max);
+    }
+
+    public void onStatusChanged(Task.TaskStatus oldStatus, Task.TaskStatus newStatus, LocalDateTime createdAt) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        counters.get(oldStatus).count.decrementAndGet();
+        onCreated(newStatus, createdAt);
+    }
+
+    // Silinen görev en eski/en yeni görevse bu değerler bir sonraki reconcile'a kadar eski kalır
+    public void onDeleted(Task.TaskStatus status) {
+        counters.get(status).count.decrementAndGet();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${task.statistics.reconcile-interval:PT1M}",
+            initialDelayString = "${task.statistics.reconcile-interval:PT1M}")
+    public void reconcile() {
+        Map<Task.TaskStatus, Object[]> rows = new EnumMap<>(Task.TaskStatus.class);
+        for (Object[] row : taskRepository.getTaskStatusStatistics()) {
+            rows.put(Task.TaskStatus.valueOf(String.valueOf(row[0])), row);
+        }
+
+        counters.forEach((status, counter) -> {
+            Object[] row = rows.get(status);
+            counter.count.set(row == null ? 0 : ((Number) row[1]).longValue());
+            counter.oldest.set(row == null ? null : NativeQueryValues.toLocalDateTime(row[2]));
+            counter.newest.set(row == null ? null : NativeQueryValues.toLocalDateTime(row[3]));
+        });
+    }
+
+    public TaskStatistics getStatistics() {
+        long pending = count(Task.TaskStatus.PENDING);
+        long inProgress = count(Task.TaskStatus.IN_PROGRESS);
+        long blocked = count(Task.TaskStatus.BLOCKED);
+        long completed = count(Task.TaskStatus.COMPLETED);
+        return new TaskStatistics(pending + inProgress + blocked + completed, pending, inProgress, blocked, completed);
+    }
+
+    public Map<String, Object> getStatusStatistics() {
+        long total = 0;
+        List<Map<String, Object>> statusStats = new ArrayList<>();
+        for (Map.Entry<Task.TaskStatus, StatusCounter> entry : counters.entrySet()) {
+            long count = entry.getValue().count.get();
+            if (count <= 0) {
+                continue;
+            }
+            total += count;
+            Map<String, Object> stat = new HashMap<>();
+            stat.put("status", entry.getKey().name());
+            stat.put("count", count);
+            stat.put("oldestTask", entry.getValue().oldest.get());
+            stat.put("newestTask", entry.getValue().newest.get());
+            statusStats.add(stat);
+        }
+
+        Map<String, Object> formattedStats = new HashMap<>();
+        formattedStats.put("totalTasks", total);
+        formattedStats.put("statusBreakdown", statusStats);
+        return formattedStats;
+    }
+
+    private long count(Task.TaskStatus status) {
+        return Math.max(0, counters.get(status).count.get());
+    }
+
+    private static LocalDateTime min(LocalDateTime current, LocalDateTime candidate) {
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+
+    private static LocalDateTime max(LocalDateTime current, LocalDateTime candidate) {
+        return current == null || candidate.isAfter(current) ? candidate : current;
+    }
+
+    private static final class StatusCounter {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicReference<LocalDateTime> oldest = new AtomicReference<>();
+        private final AtomicReference<LocalDateTime> newest = new AtomicReference<>();
+    }
+}
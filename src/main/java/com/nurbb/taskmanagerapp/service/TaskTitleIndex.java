@@ -0,0 +1,261 @@
+package com.nurbb.taskmanagerapp.service;
+
+import com.nurbb.taskmanagerapp.model.projection.TaskTitleView;
+import com.nurbb.taskmanagerapp.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Görev başlıkları için bellek içi trigram (3 karakter) inverted index.
+// Alt dize araması LOWER(title) LIKE %x% tablo taraması yerine, sorgunun trigram'larının posting
+// listelerinin kesişimiyle yapılır; aday sayısı tablo boyutuna değil sorgunun seçiciliğine bağlıdır.
+// 1 ve 2 karakterlik gram'lar tutulmaz (hemen her başlıkta geçtikleri için posting'leri tablo boyutundadır);
+// 3 karakterden kısa sorgular için supports() false döner ve TaskService veritabanına düşer.
+// Index açılışta veritabanından kurulur, sonrasında TaskService (commit sonrası) ve ReactiveTaskService
+// create / delete işlemlerinde güncellenir.
+// Bellek: task.title.index.titles / task.title.index.postings gauge'ları ile izlenir; başlık sayısı
+// task.title-index.max-titles'ı aşarsa index boşaltılır ve tüm aramalar veritabanından yapılır.
+// Yazmalar tek bir kilitle sıralanır (aramalar kilitsizdir): rebuild sırasında silinen bir görev, rebuild'in
+// okuduğu eski snapshot'tan tekrar eklenmez.
+
+@Slf4j
+@Component
+public class TaskTitleIndex {
+
+    static final int GRAM = 3;
+    static final int MAX_TOP_K = 100;
+
+    private static final Comparator<Hit> RANKING = Comparator
+            .comparingInt(Hit::score)
+            .thenComparingInt(Hit::titleLength)
+            .thenComparingInt(Hit::position)
+            .thenComparing(Hit::id);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxTitles;
+    private final ConcurrentHashMap<String, Set<UUID>> postings = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, String> titles = new ConcurrentHashMap<>();
+    private final AtomicLong postingCount = new AtomicLong();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // Yalnızca rebuild sürerken dolu; writeLock ile korunur
+    private Set<UUID> removedDuringRebuild;
+    private volatile boolean ready;
+    private volatile boolean overCapacity;
+
+    public TaskTitleIndex(
+            TaskRepository taskRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${task.title-index.max-titles:1000000}") int maxTitles) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxTitles = maxTitles;
+        meterRegistry.gauge("task.title.index.titles", titles, Map::size);
+        meterRegistry.gauge("task.title.index.postings", postingCount);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            removedDuringRebuild = new HashSet<>();
+        } finally {
+            writeLock.unlock();
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<TaskTitleView> rows = taskRepository.streamAllTitles()) {
+                    rows.forEach(row -> addFromSnapshot(row.id(), row.title()));
+                }
+            });
+        } finally {
+            writeLock.lock();
+            try {
+                removedDuringRebuild = null;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        ready = !overCapacity;
+    }
+
+    // Sorgu index'ten cevaplanabiliyor mu; false ise çağıran veritabanında arar
+    public boolean supports(String query) {
+        return ready && normalize(query).length() >= GRAM;
+    }
+
+    public void add(UUID id, String title) {
+        writeLock.lock();
+        try {
+            index(id, normalize(title));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        writeLock.lock();
+        try {
+            if (removedDuringRebuild != null) {
+                removedDuringRebuild.add(id);
+            }
+            String previous = titles.remove(id);
+            if (previous != null) {
+                removeGrams(id, previous);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Rebuild'in okuduğu satır, bu arada silinmiş ya da canlı add ile zaten eklenmişse atlanır
+    private void addFromSnapshot(UUID id, String title) {
+        writeLock.lock();
+        try {
+            if (!removedDuringRebuild.contains(id) && !titles.containsKey(id)) {
+                index(id, normalize(title));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void index(UUID id, String normalized) {
+        if (overCapacity) {
+            return;
+        }
+        if (titles.size() >= maxTitles && !titles.containsKey(id)) {
+            disable();
+            return;
+        }
+        String previous = titles.put(id, normalized);
+        if (previous != null) {
+            removeGrams(id, previous);
+        }
+        for (String gram : grams(normalized)) {
+            if (postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id)) {
+                postingCount.incrementAndGet();
+            }
+        }
+    }
+
+    private void disable() {
+        overCapacity = true;
+        ready = false;
+        titles.clear();
+        postings.clear();
+        postingCount.set(0);
+        log.warn("Title index exceeded task.title-index.max-titles={}, title search falls back to the database", maxTitles);
+    }
+
+    // Sıralama: tam eşleşme > baştan eşleşme > kelime başında eşleşme > herhangi bir yerde;
+    // eşitlikte kısa başlık ve daha önde geçen eşleşme önce gelir. En fazla MAX_TOP_K sonuç sıralanır.
+    public List<UUID> search(String query, int offset, int limit) {
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.length() < GRAM || limit < 1 || offset < 0 || offset >= MAX_TOP_K) {
+            return List.of();
+        }
+
+        List<Set<UUID>> lists = new ArrayList<>();
+        for (String gram : grams(normalizedQuery)) {
+            Set<UUID> ids = postings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        int topK = Math.min(offset + limit, MAX_TOP_K);
+        PriorityQueue<Hit> best = new PriorityQueue<>(RANKING.reversed());
+        Set<UUID> smallest = lists.getFirst();
+        List<Set<UUID>> others = lists.subList(1, lists.size());
+        for (UUID id : smallest) {
+            if (!containsInAll(others, id)) {
+                continue;
+            }
+            String title = titles.get(id);
+            int position = title == null ? -1 : title.indexOf(normalizedQuery);
+            if (position < 0) {
+                continue; // n-gram'lar var ama dize ardışık değil
+            }
+            best.offer(new Hit(id, score(title, normalizedQuery, position), title.length(), position));
+            if (best.size() > topK) {
+                best.poll();
+            }
+        }
+
+        List<Hit> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        if (offset >= ranked.size()) {
+            return List.of();
+        }
+        return ranked.subList(offset, Math.min(ranked.size(), offset + limit)).stream()
+                .map(Hit::id)
+                .toList();
+    }
+
+    private void removeGrams(UUID id, String title) {
+        for (String gram : grams(title)) {
+            postings.computeIfPresent(gram, (key, ids) -> {
+                if (ids.remove(id)) {
+                    postingCount.decrementAndGet();
+                }
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static boolean containsInAll(List<Set<UUID>> lists, UUID id) {
+        for (Set<UUID> ids : lists) {
+            if (!ids.contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int score(String title, String query, int position) {
+        if (title.length() == query.length()) {
+            return 0;
+        }
+        if (position == 0) {
+            return 1;
+        }
+        return Character.isLetterOrDigit(title.charAt(position - 1)) ? 3 : 2;
+    }
+
+    // Başlık da sorgu da aynı trigram kümesiyle eşlenir; 3 karakterden kısa metnin trigram'ı yoktur
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private record Hit(UUID id, int score, int titleLength, int position) {}
+}
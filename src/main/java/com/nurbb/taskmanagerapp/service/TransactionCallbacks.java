@@ -0,0 +1,25 @@
+package com.nurbb.taskmanagerapp.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Bellek içi yan etkiler (sayaçlar vb.) yalnızca veritabanı değişikliği commit edildikten sonra uygulanır.
+// Rollback olursa hiç çalışmaz; aktif transaction yoksa hemen çalışır.
+
+final class TransactionCallbacks {
+
+    private TransactionCallbacks() {}
+
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
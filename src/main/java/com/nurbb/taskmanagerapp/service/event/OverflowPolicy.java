@@ -0,0 +1,11 @@
+package com.nurbb.taskmanagerapp.service.event;
+
+// Bir listener'ın ring buffer'ı dolduğunda yeni olaya ne yapılacağı
+public enum OverflowPolicy {
+    // Yayınlayan thread yer açılana kadar bekler, olay kaybolmaz
+    BLOCK,
+    // Olay atılır ve dropped sayacı artar
+    DROP,
+    // Olay sınırsız taşma kuyruğuna yazılır, worker ring boşalınca oradan devam eder
+    SPILL
+}
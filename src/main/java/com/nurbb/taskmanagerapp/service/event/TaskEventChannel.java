@@ -0,0 +1,40 @@
+package com.nurbb.taskmanagerapp.service.event;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Bir olay türü (ör. görev oluşturuldu). Her olay kanaldaki tüm listener'lara ayrı ayrı iletilir.
+// Kayıt ve yayınlama thread-safe'tir; publish yalnızca olayı listener kuyruklarına bırakır, listener'ı çağırmaz.
+
+public final class TaskEventChannel<T> {
+
+    private final String name;
+    private final TaskEventDispatcher dispatcher;
+    private final List<TaskEventSubscription<T>> subscriptions = new CopyOnWriteArrayList<>();
+
+    TaskEventChannel(String name, TaskEventDispatcher dispatcher) {
+        this.name = name;
+        this.dispatcher = dispatcher;
+    }
+
+    public void subscribe(Consumer<T> listener) {
+        subscribe(listener.getClass().getSimpleName() + "#" + subscriptions.size(), listener);
+    }
+
+    public void subscribe(String listenerName, Consumer<T> listener) {
+        subscriptions.add(dispatcher.newSubscription(name, listenerName, listener));
+    }
+
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    public void publish(T event) {
+        Objects.requireNonNull(event, "Task event cannot be null.");
+        for (TaskEventSubscription<T> subscription : subscriptions) {
+            subscription.publish(event);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.nurbb.taskmanagerapp.service.event;
+
+import com.nurbb.taskmanagerapp.model.dto.response.TaskEventListenerStatistics;
+import com.nurbb.taskmanagerapp.model.entity.Task;
+import com.nurbb.taskmanagerapp.model.projection.TaskSummary;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// Görev olaylarının asenkron dağıtımı. Servisler olayı commit sonrası kanala bırakır ve hemen döner;
+// listener'lar kendi virtual thread'lerinde, transaction ve DB bağlantısı dışında çalışır.
+// Kuyruk boyutu, batch boyutu ve taşma politikası tüm listener'lar için ortaktır.
+
+@Component
+public class TaskEventDispatcher {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final List<TaskEventSubscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+    private final TaskEventChannel<Task> taskCreated = new TaskEventChannel<>("task-created", this);
+    private final TaskEventChannel<List<Task>> tasksBatchCreated = new TaskEventChannel<>("tasks-batch-created", this);
+    private final TaskEventChannel<Task> taskCompleted = new TaskEventChannel<>("task-completed", this);
+    private final TaskEventChannel<List<TaskSummary>> tasksOverdue = new TaskEventChannel<>("tasks-overdue", this);
+
+    public TaskEventDispatcher(
+            @Value("${task.events.buffer-capacity:1024}") int bufferCapacity,
+            @Value("${task.events.batch-size:64}") int batchSize,
+            @Value("${task.events.overflow-policy:BLOCK}") OverflowPolicy overflowPolicy) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("task.events.batch-size must be positive.");
+        }
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public TaskEventChannel<Task> taskCreated() {
+        return taskCreated;
+    }
+
+    public TaskEventChannel<List<Task>> tasksBatchCreated() {
+        return tasksBatchCreated;
+    }
+
+    public TaskEventChannel<Task> taskCompleted() {
+        return taskCompleted;
+    }
+
+    // OverdueTaskSweeper NOTIFY modunda her parçayı bu kanala bırakır
+    public TaskEventChannel<List<TaskSummary>> tasksOverdue() {
+        return tasksOverdue;
+    }
+
+    <T> TaskEventSubscription<T> newSubscription(String channel, String listenerName, Consumer<T> listener) {
+        TaskEventSubscription<T> subscription = new TaskEventSubscription<>(
+                channel, listenerName, listener, bufferCapacity, batchSize, overflowPolicy);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    public List<TaskEventListenerStatistics> getStatistics() {
+        return subscriptions.stream()
+                .map(TaskEventSubscription::statistics)
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(subscription -> subscription.close(SHUTDOWN_TIMEOUT_MILLIS));
+    }
+}
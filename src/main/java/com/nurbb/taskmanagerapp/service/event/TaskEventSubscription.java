@@ -0,0 +1,131 @@
+package com.nurbb.taskmanagerapp.service.event;
+
+import com.nurbb.taskmanagerapp.model.dto.response.TaskEventListenerStatistics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+// Tek bir listener: kendi ring buffer'ı ve onu tüketen kendi virtual thread'i vardır,
+// böylece yavaş bir listener diğerlerini ya da yayınlayan isteği yavaşlatmaz (BLOCK hariç).
+// Worker uyandığında batchSize kadar olayı park etmeden arka arkaya işler.
+
+@Slf4j
+final class TaskEventSubscription<T> {
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final String channel;
+    private final String name;
+    private final Consumer<T> listener;
+    private final TaskEventRingBuffer<T> ring;
+    private final ConcurrentLinkedQueue<T> spill = new ConcurrentLinkedQueue<>();
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final Thread worker;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private volatile boolean running = true;
+
+    TaskEventSubscription(String channel, String name, Consumer<T> listener,
+                          int capacity, int batchSize, OverflowPolicy overflowPolicy) {
+        this.channel = channel;
+        this.name = name;
+        this.listener = listener;
+        this.ring = new TaskEventRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.worker = Thread.ofVirtual()
+                .name("task-events-" + channel + "-" + name)
+                .start(this::consume);
+    }
+
+    void publish(T event) {
+        published.incrementAndGet();
+        // Taşma kuyruğu doluyken ring'e yazılmaz, aynı üreticinin olay sırası korunur
+        if (!spill.isEmpty() || !ring.offer(event)) {
+            onOverflow(event);
+        }
+        LockSupport.unpark(worker);
+    }
+
+    private void onOverflow(T event) {
+        switch (overflowPolicy) {
+            case DROP -> dropped.incrementAndGet();
+            case SPILL -> {
+                spilled.incrementAndGet();
+                spill.add(event);
+            }
+            case BLOCK -> {
+                while (!ring.offer(event)) {
+                    if (!running) {
+                        dropped.incrementAndGet();
+                        return;
+                    }
+                    LockSupport.unpark(worker);
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+            }
+        }
+    }
+
+    private void consume() {
+        while (running || hasPending()) {
+            int processed = 0;
+            T event;
+            while (processed < batchSize && (event = next()) != null) {
+                deliver(event);
+                processed++;
+            }
+            if (processed == 0 && running) {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    private T next() {
+        T event = ring.poll();
+        return event != null ? event : spill.poll();
+    }
+
+    private boolean hasPending() {
+        return ring.size() > 0 || !spill.isEmpty();
+    }
+
+    private void deliver(T event) {
+        try {
+            listener.accept(event);
+            delivered.incrementAndGet();
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            log.warn("Task event listener {}/{} failed", channel, name, e);
+        }
+    }
+
+    // Kalan olaylar işlenene kadar (en fazla timeout kadar) beklenir
+    void close(long timeoutMillis) {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    TaskEventListenerStatistics statistics() {
+        long publishedCount = published.get();
+        long deliveredCount = delivered.get();
+        long failedCount = failed.get();
+        long droppedCount = dropped.get();
+        return new TaskEventListenerStatistics(channel, name, publishedCount, deliveredCount, failedCount,
+                droppedCount, spilled.get(), publishedCount - deliveredCount - failedCount - droppedCount);
+    }
+}
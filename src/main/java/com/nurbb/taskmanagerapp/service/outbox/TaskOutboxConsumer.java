@@ -0,0 +1,13 @@
+package com.nurbb.taskmanagerapp.service.outbox;
+
+import com.nurbb.taskmanagerapp.model.entity.TaskOutboxEvent;
+
+// Outbox olaylarının tüketicisi. Teslimat en az bir kezdir (at-least-once): relay tüketiciyi çağırdıktan sonra
+// commit edemezse aynı olay tekrar gelir, bu yüzden tüketici olay id'sine göre idempotent olmalıdır.
+// Exception fırlatan tüketici için olay başarısız sayılır ve sonraki turda tekrar denenir.
+
+@FunctionalInterface
+public interface TaskOutboxConsumer {
+
+    void accept(TaskOutboxEvent event);
+}
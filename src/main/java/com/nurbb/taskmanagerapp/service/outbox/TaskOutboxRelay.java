@@ -0,0 +1,173 @@
+package com.nurbb.taskmanagerapp.service.outbox;
+
+import com.nurbb.taskmanagerapp.model.entity.TaskOutboxEvent;
+import com.nurbb.taskmanagerapp.repository.TaskOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Outbox tablosunu periyodik olarak boşaltır. Her batch üç adımda işlenir:
+//  1. Kısa bir transaction'da zamanı gelmiş batchSize kadar satır FOR UPDATE SKIP LOCKED ile kilitlenir ve
+//     next_attempt_at'leri lease sonrasına atılır (lease); commit ile satır kilitleri bırakılır.
+//  2. Olaylar transaction ve satır kilidi dışında kayıtlı tüm tüketicilere iletilir; yavaş bir tüketici
+//     veritabanı bağlantısı ya da kilit tutmaz.
+//  3. İkinci kısa transaction'da teslim edilenler silinir, başarısızların deneme sayısı artırılır ve
+//     exponential backoff (initial-backoff * 2^(deneme-1), en fazla max-backoff) sonrasına ertelenir.
+//     max-attempts'a ulaşan kayıt dead letter olur (next_attempt_at NULL), task.outbox.dead.letters gauge'unda görünür.
+// Teslimat lease süresinde bitmezse ya da node 3. adımdan önce düşerse satır lease sonunda tekrar seçilir
+// (at-least-once). Aynı node'da "workers" kadar relay paralel çalışır; node sayısı arttıkça SKIP LOCKED sayesinde
+// iş paylaşılır. Farklı worker'lar farklı batch'leri işlediği için olaylar arası sıra yalnızca bir batch içinde korunur.
+
+@Slf4j
+@Component
+public class TaskOutboxRelay {
+
+    private final TaskOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final List<TaskOutboxConsumer> consumers;
+    private final int batchSize;
+    private final int workers;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final ExecutorService relayExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public TaskOutboxRelay(
+            TaskOutboxRepository outboxRepository,
+            TransactionTemplate transactionTemplate,
+            ObjectProvider<TaskOutboxConsumer> consumers,
+            MeterRegistry meterRegistry,
+            @Value("${task.outbox.batch-size:100}") int batchSize,
+            @Value("${task.outbox.workers:1}") int workers,
+            @Value("${task.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${task.outbox.lease:PT1M}") Duration lease,
+            @Value("${task.outbox.initial-backoff:PT1S}") Duration initialBackoff,
+            @Value("${task.outbox.max-backoff:PT5M}") Duration maxBackoff) {
+        if (batchSize < 1 || workers < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException(
+                    "task.outbox.batch-size, task.outbox.workers and task.outbox.max-attempts must be positive.");
+        }
+        if (!lease.isPositive() || !initialBackoff.isPositive() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException(
+                    "task.outbox.lease and task.outbox.initial-backoff must be positive, task.outbox.max-backoff at least initial-backoff.");
+        }
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.consumers = new CopyOnWriteArrayList<>(consumers.orderedStream().toList());
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+
+        meterRegistry.gauge("task.outbox.dead.letters", outboxRepository, TaskOutboxRepository::countByNextAttemptAtIsNull);
+    }
+
+    public void register(TaskOutboxConsumer consumer) {
+        consumers.add(consumer);
+    }
+
+    // Dead letter olmayan (teslim edilmeyi bekleyen ya da backoff'taki) kayıt sayısı
+    public long pendingCount() {
+        return outboxRepository.countByNextAttemptAtIsNotNull();
+    }
+
+    // Önceki tur bitmeden yenisi başlamaz; her worker tablo boşalana, tam dolmayan bir batch gelene ya da
+    // bir batch'te hiçbir olay teslim edilemeyene (tüketici çalışmıyor) kadar döner
+    @Scheduled(fixedDelayString = "${task.outbox.relay-interval:PT1S}")
+    public void drain() {
+        if (consumers.isEmpty() || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<CompletableFuture<Void>> running = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                running.add(CompletableFuture.runAsync(this::drainUntilEmpty, relayExecutor));
+            }
+            CompletableFuture.allOf(running.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private void drainUntilEmpty() {
+        BatchResult result;
+        do {
+            result = relayBatch();
+        } while (result.locked() == batchSize && result.delivered() > 0);
+    }
+
+    BatchResult relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskOutboxEvent> batch = transactionTemplate.execute(status -> {
+            List<TaskOutboxEvent> locked = outboxRepository.lockNextBatch(now, batchSize);
+            LocalDateTime leaseEnd = now.plus(lease);
+            locked.forEach(event -> event.leaseUntil(leaseEnd));
+            return locked;
+        });
+        if (batch == null || batch.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        List<Long> delivered = new ArrayList<>(batch.size());
+        List<Failure> failed = new ArrayList<>();
+        for (TaskOutboxEvent event : batch) {
+            try {
+                for (TaskOutboxConsumer consumer : consumers) {
+                    consumer.accept(event);
+                }
+                delivered.add(event.getId());
+            } catch (RuntimeException e) {
+                log.warn("Outbox event {} ({}) delivery failed", event.getId(), event.getEventType(), e);
+                failed.add(new Failure(event, e.getMessage()));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                outboxRepository.deleteAllByIdInBatch(delivered);
+            }
+            LocalDateTime failedAt = LocalDateTime.now();
+            for (Failure failure : failed) {
+                TaskOutboxEvent event = failure.event();
+                LocalDateTime nextAttempt = nextAttemptAt(event.getAttempts() + 1, failedAt);
+                if (nextAttempt == null) {
+                    log.error("Outbox event {} ({}) moved to dead letter after {} attempts",
+                            event.getId(), event.getEventType(), event.getAttempts() + 1);
+                }
+                outboxRepository.recordFailure(event.getId(), TaskOutboxEvent.truncateError(failure.error()), nextAttempt);
+            }
+        });
+        return new BatchResult(batch.size(), delivered.size());
+    }
+
+    // attempts: bu başarısızlık dahil deneme sayısı. Sınır dolduysa null (dead letter)
+    LocalDateTime nextAttemptAt(int attempts, LocalDateTime failedAt) {
+        if (attempts >= maxAttempts) {
+            return null;
+        }
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return failedAt.plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff);
+    }
+
+    record BatchResult(int locked, int delivered) {}
+
+    private record Failure(TaskOutboxEvent event, String error) {}
+}
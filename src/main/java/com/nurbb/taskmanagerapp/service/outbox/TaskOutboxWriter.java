@@ -0,0 +1,33 @@
+package com.nurbb.taskmanagerapp.service.outbox;
+
+import com.nurbb.taskmanagerapp.model.entity.Task;
+import com.nurbb.taskmanagerapp.model.entity.TaskOutboxEvent;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+// Olay kaydı çağıranın transaction'ına katılır; transaction yoksa hata verir (MANDATORY),
+// çünkü görev değişikliğinden ayrı commit edilen bir outbox kaydı garantiyi bozar.
+
+@Component
+@RequiredArgsConstructor
+public class TaskOutboxWriter {
+
+    private final EntityManager entityManager;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Task task, TaskOutboxEvent.EventType eventType) {
+        entityManager.persist(TaskOutboxEvent.of(task, eventType));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(Collection<Task> tasks, TaskOutboxEvent.EventType eventType) {
+        for (Task task : tasks) {
+            entityManager.persist(TaskOutboxEvent.of(task, eventType));
+        }
+    }
+}
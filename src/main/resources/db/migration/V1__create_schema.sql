@@ -0,0 +1,44 @@
+-- Baslangic semasi. Daha once Hibernate / elle olusturulmus veritabanlarinda da calisir (baseline-version=0):
+-- tablolar IF NOT EXISTS ile, sonradan eklenen kolonlar ADD COLUMN IF NOT EXISTS ile olusturulur.
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id             UUID          NOT NULL PRIMARY KEY,
+    title          VARCHAR(255)  NOT NULL,
+    description    VARCHAR(2000),
+    status         VARCHAR(32)   NOT NULL,
+    created_at     TIMESTAMP(6)  NOT NULL,
+    updated_at     TIMESTAMP(6),
+    priority_value INTEGER       NOT NULL DEFAULT 0,
+    priority_label VARCHAR(255),
+    version        BIGINT        NOT NULL DEFAULT 0
+);
+
+-- Migration oncesi olusturulmus tasks tablolarinda priority ve optimistic locking (version) kolonlari eksik olabilir
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS priority_value INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS priority_label VARCHAR(255);
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT;
+
+-- Eski satirlarda version NULL kalirsa JPA entity'yi "yeni" sayar ve delete(task) hicbir sey silmez
+UPDATE tasks SET version = 0 WHERE version IS NULL;
+ALTER TABLE tasks ALTER COLUMN version SET DEFAULT 0, ALTER COLUMN version SET NOT NULL;
+
+CREATE TABLE IF NOT EXISTS app_users (
+    id            UUID          NOT NULL PRIMARY KEY,
+    username      VARCHAR(100)  NOT NULL UNIQUE,
+    password_hash VARCHAR(255)  NOT NULL,
+    role          VARCHAR(255)  NOT NULL,
+    created_at    TIMESTAMP(6)  NOT NULL
+);
+
+-- TaskOutboxEvent id'leri 50'lik bloklar halinde alir (allocationSize = 50), artis miktari ayni olmali
+CREATE SEQUENCE IF NOT EXISTS task_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS task_outbox (
+    id          BIGINT        NOT NULL PRIMARY KEY,
+    task_id     UUID          NOT NULL,
+    event_type  VARCHAR(32)   NOT NULL,
+    task_status VARCHAR(32)   NOT NULL,
+    created_at  TIMESTAMP(6)  NOT NULL,
+    attempts    INTEGER       NOT NULL DEFAULT 0,
+    last_error  VARCHAR(1000)
+);
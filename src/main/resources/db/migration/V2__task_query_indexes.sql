@@ -0,0 +1,31 @@
+-- TaskRepository sorgulari icin index'ler. Her index'in ustunde kullanan sorgular yazili;
+-- yeni bir sorgu eklendiginde TaskQueryPlanTests'e de EXPLAIN kontrolu eklenmeli.
+
+-- findByStatus, countByStatus / existsByStatus (index-only scan), status bazli keyset sayfalama
+-- (findFirstPageByStatus, findPageByStatusAfter): status esitligi + (created_at, id) sirasi
+CREATE INDEX IF NOT EXISTS idx_tasks_status_created_at_id
+    ON tasks (status, created_at, id);
+
+-- Keyset sayfalama (findFirstPage, findPageAfter), export stream'i, findByCreatedAtBetween
+-- ve findFirstByOrderByCreatedAtDesc (index geriye dogru okunur, LIMIT 1)
+CREATE INDEX IF NOT EXISTS idx_tasks_created_at_id
+    ON tasks (created_at, id);
+
+-- findPriorityTasksToComplete: ORDER BY priority_value DESC, created_at ASC ... LIMIT sirasi index'ten okunur,
+-- tamamlanmis gorevler index'e hic girmez
+CREATE INDEX IF NOT EXISTS idx_tasks_open_priority_created_at
+    ON tasks (priority_value DESC, created_at)
+    WHERE status <> 'COMPLETED';
+
+-- OverdueTaskSweeper (findFirstOverdueChunk, findOverdueChunkAfter, countOverdue*): created_at < :cutoff
+-- AND status <> 'COMPLETED', (created_at, id) keyset sirasi; yalnizca acik gorevler. id eklenince ayni
+-- created_at'e sahip satirlarda da sira index'ten gelir
+CREATE INDEX IF NOT EXISTS idx_tasks_open_created_at_id
+    ON tasks (created_at, id)
+    WHERE status <> 'COMPLETED';
+
+-- findTasksByPriorityValue: priority_value esitligi + ORDER BY created_at DESC
+CREATE INDEX IF NOT EXISTS idx_tasks_priority_value_created_at
+    ON tasks (priority_value, created_at DESC);
+
+-- TaskOutboxRepository.lockNextBatch (next_attempt_at, id) sirasiyla okur; kismi index'i V5'te olusturulur
@@ -0,0 +1,9 @@
+-- Sweeper'in kaldigi yer (son islenen (created_at, id)) ve tek node'un calismasi icin kiralama (lease)
+CREATE TABLE IF NOT EXISTS task_sweep_checkpoint (
+    name            VARCHAR(64)   NOT NULL PRIMARY KEY,
+    last_created_at TIMESTAMP(6),
+    last_task_id    UUID,
+    owner           VARCHAR(128),
+    lease_until     TIMESTAMP(6),
+    updated_at      TIMESTAMP(6)  NOT NULL
+);
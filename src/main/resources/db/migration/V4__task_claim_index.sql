@@ -0,0 +1,6 @@
+-- TaskClaimQueue aday listesi (findClaimCandidates): yalnizca PENDING gorevler, created_at, id sirasiyla (FIFO).
+-- PENDING gorevlerin priority_value'su status'tan turetildigi icin hep ayni (LOW), siraya katilmaz.
+-- Sahiplenilen gorev PENDING'den ciktigi anda index'ten de cikar, index yalnizca bekleyen is kadar buyur.
+CREATE INDEX IF NOT EXISTS idx_tasks_pending_created_at_id
+    ON tasks (created_at, id)
+    WHERE status = 'PENDING';
@@ -0,0 +1,18 @@
+-- TaskOutboxRelay yeniden deneme zamanlamasi. Satir next_attempt_at gelmeden secilmez: teslimat sirasinda
+-- lease suresi kadar, basarisiz denemeden sonra exponential backoff kadar ileri atilir.
+-- NULL: deneme siniri doldu (dead letter), relay bir daha secmez; tekrar denemek icin next_attempt_at doldurulur.
+ALTER TABLE task_outbox ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP(6);
+
+-- Mevcut satirlarin hepsi hemen secilebilir. Deneme siniri (task.outbox.max-attempts) kuruluma gore degistigi icin
+-- burada sabitlenmez: siniri zaten doldurmus satir bir sonraki basarisiz denemede relay tarafindan dead letter yapilir
+UPDATE task_outbox SET next_attempt_at = created_at WHERE next_attempt_at IS NULL;
+
+-- lockNextBatch: next_attempt_at <= :now ORDER BY next_attempt_at, id; dead letter satirlari index'e girmez
+CREATE INDEX IF NOT EXISTS idx_task_outbox_next_attempt_at_id
+    ON task_outbox (next_attempt_at, id)
+    WHERE next_attempt_at IS NOT NULL;
+
+-- countByNextAttemptAtIsNull (task.outbox.dead.letters gauge'u): yalnizca dead letter satirlari
+CREATE INDEX IF NOT EXISTS idx_task_outbox_dead_letter
+    ON task_outbox (id)
+    WHERE next_attempt_at IS NULL;
@@ -0,0 +1,57 @@
+package com.nurbb.taskmanagerapp.benchmark;
+
+import com.nurbb.taskmanagerapp.security.JwtUtil;
+import com.nurbb.taskmanagerapp.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Her istekte çalışan JWT yolları. validateToken doğrulanmış token cache'inden döner;
+// parseValidClaims cache'siz imza + süre doğrulamasının maliyetini gösterir.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(new VerifiedTokenCache(10_000), new SimpleMeterRegistry());
+        userDetails = User.withUsername("benchmark-user")
+                .password("{noop}password")
+                .roles("USER")
+                .build();
+        token = jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token, userDetails);
+    }
+
+    @Benchmark
+    public Optional<?> parseValidClaimsUncached() {
+        return jwtUtil.parseValidClaims(token);
+    }
+}
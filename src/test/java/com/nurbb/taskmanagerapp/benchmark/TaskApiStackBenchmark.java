@@ -0,0 +1,179 @@
+package com.nurbb.taskmanagerapp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nurbb.taskmanagerapp.TaskManagerAppApplication;
+import com.nurbb.taskmanagerapp.model.entity.TimeOrderedUuid;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Aynı işlem iki yığında, HTTP üzerinden uçtan uca: servlet + JPA/JDBC (/tasks) ile R2DBC (/api/reactive/tasks).
+//  - read:   GET .../{id}, seedTasks satır arasından rastgele görev
+//  - create: POST ... (insert + commit)
+// THREADS eşzamanlı istemci; Throughput ve SampleTime (p50 / p99 / p99.9) birlikte raporlanır.
+// /tasks tarafındaki TaskCache kapatılır (task.cache.max-size=0), iki yığın da her okumada veritabanına gider.
+// Her iki yığın aynı JVM'de, aynı PostgreSQL'e bağlıdır: Hikari havuzu ve R2DBC havuzu aynı boyuttadır.
+// 2xx dışındaki yanıtlar "errors" sayacına yazılır.
+//
+// Uygulama context'i PostgreSQL container'ına bağlanarak tam olarak açılır (güvenlik filtresi, JWT dahil).
+// Docker gerektirir; varsayılan benchmark çalıştırmasına dahil değildir (pom.xml benchmark profiline bakın).
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(TaskApiStackBenchmark.THREADS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskApiStackBenchmark {
+
+    static final int THREADS = 32;
+    private static final int POOL_SIZE = 20;
+
+    public enum Stack {
+        SERVLET_JPA("/tasks"),
+        REACTIVE_R2DBC("/api/reactive/tasks");
+
+        private final String path;
+
+        Stack(String path) {
+            this.path = path;
+        }
+    }
+
+    @Param({"SERVLET_JPA", "REACTIVE_R2DBC"})
+    private Stack stack;
+
+    @Param({"10000"})
+    private int seedTasks;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private URI baseUri;
+    private String authorization;
+    private List<UUID> taskIds;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long errors;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            errors = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void startApplication() throws IOException, InterruptedException {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+                .withCommand("postgres", "-c", "max_connections=200");
+        postgres.start();
+
+        String r2dbcUrl = "r2dbc:postgresql://%s:%d/%s".formatted(
+                postgres.getHost(), postgres.getFirstMappedPort(), postgres.getDatabaseName());
+        context = new SpringApplicationBuilder(TaskManagerAppApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.r2dbc.url=" + r2dbcUrl,
+                        "spring.r2dbc.username=" + postgres.getUsername(),
+                        "spring.r2dbc.password=" + postgres.getPassword(),
+                        "spring.r2dbc.pool.max-size=" + POOL_SIZE,
+                        "task.cache.max-size=0",
+                        "task.overdue.initial-delay=PT24H",
+                        "logging.level.root=WARN")
+                .run();
+
+        seed(context.getBean(JdbcTemplate.class));
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        authorization = "Bearer " + login();
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        taskIds = new ArrayList<>(seedTasks);
+        List<Object[]> rows = new ArrayList<>(seedTasks);
+        for (int i = 0; i < seedTasks; i++) {
+            UUID id = TimeOrderedUuid.next();
+            taskIds.add(id);
+            rows.add(new Object[]{id, "Seed task " + i, now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tasks (id, title, description, status, created_at, updated_at, priority_value, priority_label, version)
+                VALUES (?, ?, 'stack benchmark', 'PENDING', ?, ?, 1, 'Low', 0)
+                """, rows);
+        jdbcTemplate.execute("ANALYZE tasks");
+    }
+
+    // CustomUserDetailsService açılışta varsayılan kullanıcıyı (user / password) oluşturur
+    private String login() throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(baseUri.resolve("/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"user\",\"password\":\"password\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with HTTP " + response.statusCode());
+        }
+        return new ObjectMapper().readTree(response.body()).get("token").asText();
+    }
+
+    @Benchmark
+    public int read(Outcomes outcomes) throws IOException, InterruptedException {
+        UUID id = taskIds.get(ThreadLocalRandom.current().nextInt(taskIds.size()));
+        return send(HttpRequest.newBuilder(baseUri.resolve(stack.path + "/" + id))
+                .header("Authorization", authorization)
+                .GET()
+                .build(), outcomes);
+    }
+
+    @Benchmark
+    public int create(Outcomes outcomes) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(baseUri.resolve(stack.path))
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"title\":\"Benchmark task\",\"description\":\"stack benchmark\"}"))
+                .build(), outcomes);
+    }
+
+    private int send(HttpRequest request, Outcomes outcomes) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            outcomes.errors++;
+        }
+        return response.body().length;
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+        postgres.stop();
+    }
+}
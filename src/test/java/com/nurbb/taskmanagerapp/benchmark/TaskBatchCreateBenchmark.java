@@ -0,0 +1,137 @@
+package com.nurbb.taskmanagerapp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nurbb.taskmanagerapp.TaskManagerAppApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Aynı sayıda görev iki yoldan, HTTP üzerinden uçtan uca oluşturulur:
+//  - single: ROWS adet POST /tasks (görev başına bir istek, bir transaction, bir INSERT)
+//  - batch:  tek POST /tasks/batch (500'lük parçalar, parça başına bir transaction ve bir JDBC batch)
+// @OperationsPerInvocation(ROWS) ile skor doğrudan satır/sn'dir; iki skorun oranı batch yolunun kazancıdır.
+// Her iterasyon öncesi tasks ve task_outbox boşaltılır, iki yol aynı tablo boyutundan başlar.
+// 201 dışındaki yanıtlar IllegalStateException ile benchmark'ı durdurur (kısmi batch sonucu ölçülmez).
+//
+// Uygulama context'i PostgreSQL container'ına bağlanarak tam olarak açılır (güvenlik filtresi, JWT dahil).
+// Docker gerektirir; varsayılan benchmark çalıştırmasına dahil değildir (pom.xml benchmark profiline bakın).
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@OperationsPerInvocation(TaskBatchCreateBenchmark.ROWS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskBatchCreateBenchmark {
+
+    static final int ROWS = 5_000;
+    private static final String TASK_JSON = "{\"title\":\"Benchmark task\",\"description\":\"batch benchmark\"}";
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private HttpClient httpClient;
+    private URI baseUri;
+    private String authorization;
+    private String batchBody;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws IOException, InterruptedException {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+
+        String r2dbcUrl = "r2dbc:postgresql://%s:%d/%s".formatted(
+                postgres.getHost(), postgres.getFirstMappedPort(), postgres.getDatabaseName());
+        context = new SpringApplicationBuilder(TaskManagerAppApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.r2dbc.url=" + r2dbcUrl,
+                        "spring.r2dbc.username=" + postgres.getUsername(),
+                        "spring.r2dbc.password=" + postgres.getPassword(),
+                        "task.overdue.initial-delay=PT24H",
+                        "logging.level.root=WARN")
+                .run();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        authorization = "Bearer " + login();
+
+        StringBuilder body = new StringBuilder(ROWS * (TASK_JSON.length() + 1) + 2).append('[');
+        for (int i = 0; i < ROWS; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append(TASK_JSON);
+        }
+        batchBody = body.append(']').toString();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE tasks, task_outbox");
+    }
+
+    // CustomUserDetailsService açılışta varsayılan kullanıcıyı (user / password) oluşturur
+    private String login() throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(baseUri.resolve("/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"user\",\"password\":\"password\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with HTTP " + response.statusCode());
+        }
+        return new ObjectMapper().readTree(response.body()).get("token").asText();
+    }
+
+    @Benchmark
+    public int single() throws IOException, InterruptedException {
+        int bytes = 0;
+        for (int i = 0; i < ROWS; i++) {
+            bytes += post("/tasks", TASK_JSON);
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public int batch() throws IOException, InterruptedException {
+        return post("/tasks/batch", batchBody);
+    }
+
+    private int post(String path, String body) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(baseUri.resolve(path))
+                        .header("Authorization", authorization)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("POST " + path + " failed with HTTP " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+        postgres.stop();
+    }
+}
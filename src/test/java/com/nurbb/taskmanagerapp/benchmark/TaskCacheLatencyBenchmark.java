@@ -0,0 +1,99 @@
+package com.nurbb.taskmanagerapp.benchmark;
+
+import com.nurbb.taskmanagerapp.model.dto.response.TaskResponseDTO;
+import com.nurbb.taskmanagerapp.model.entity.Task;
+import com.nurbb.taskmanagerapp.model.mapper.TaskResponseMapper;
+import com.nurbb.taskmanagerapp.repository.TaskRepository;
+import com.nurbb.taskmanagerapp.service.TaskCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// GET /tasks/{id} okuma yolunun kuyruk gecikmesi: TaskCache (Caffeine) ile doğrudan repository okuması.
+// Repository bellekteki bir map'tir ve her findById dbLatencyMicros kadar bekler (tek satırlık PK sorgusunun
+// round-trip'i). Anahtarlar çarpık dağılır (index = keys * u^3, u ~ U(0,1)): küçük bir sıcak küme okumaların
+// çoğunu alır, cache keys'in onda biri kadardır. invalidatePercent kadar okumadan önce görev invalidate edilir
+// (yazma sonrası invalidation). SampleTime modu p50 / p99 / p99.9 / max değerlerini raporlar;
+// cache miss'leri ve eşzamanlı aynı-anahtar yüklemeleri kuyrukta görünür.
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskCacheLatencyBenchmark {
+
+    @Param({"100000"})
+    private int keys;
+
+    @Param({"10000"})
+    private int cacheSize;
+
+    @Param({"200"})
+    private int dbLatencyMicros;
+
+    @Param({"0", "1"})
+    private int invalidatePercent;
+
+    private UUID[] ids;
+    private TaskRepository taskRepository;
+    private TaskCache taskCache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ids = new UUID[keys];
+        Map<UUID, Task> tasks = new HashMap<>(keys * 2);
+        for (int i = 0; i < keys; i++) {
+            Task task = Task.builder()
+                    .title("Task " + i)
+                    .description("Cache latency benchmark")
+                    .version(0L)
+                    .build();
+            ids[i] = task.getId();
+            tasks.put(task.getId(), task);
+        }
+
+        long latencyNanos = TimeUnit.MICROSECONDS.toNanos(dbLatencyMicros);
+        taskRepository = (TaskRepository) Proxy.newProxyInstance(
+                TaskRepository.class.getClassLoader(),
+                new Class<?>[]{TaskRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findById")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    LockSupport.parkNanos(latencyNanos);
+                    return Optional.ofNullable(tasks.get((UUID) args[0]));
+                });
+        taskCache = new TaskCache(taskRepository, new SimpleMeterRegistry(), cacheSize, Duration.ofMinutes(10));
+    }
+
+    @Benchmark
+    public Optional<TaskResponseDTO> cachedRead() {
+        UUID id = nextId();
+        if (invalidatePercent > 0 && ThreadLocalRandom.current().nextInt(100) < invalidatePercent) {
+            taskCache.invalidate(id);
+        }
+        return taskCache.get(id);
+    }
+
+    @Benchmark
+    public Optional<TaskResponseDTO> repositoryRead() {
+        return taskRepository.findById(nextId()).map(TaskResponseMapper.INSTANCE::toDTO);
+    }
+
+    private UUID nextId() {
+        double u = ThreadLocalRandom.current().nextDouble();
+        return ids[(int) (keys * u * u * u)];
+    }
+}
@@ -0,0 +1,144 @@
+package com.nurbb.taskmanagerapp.benchmark;
+
+import com.nurbb.taskmanagerapp.TaskManagerAppApplication;
+import com.nurbb.taskmanagerapp.model.entity.TimeOrderedUuid;
+import com.nurbb.taskmanagerapp.model.projection.TaskSummary;
+import com.nurbb.taskmanagerapp.service.TaskClaimQueue;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// TaskClaimQueue ölçeklenmesi: her iterasyonda "tasks" kadar PENDING görev eklenir ve "workers" thread kuyruk
+// boşalana kadar claim(claimSize) çağırır. Skor tüm görevlerin sahiplenilme süresidir (claim/sn = tasks / skor);
+// worker sayısı arttıkça süre aynı oranda düşmelidir. Her iterasyon sonunda aynı görevin iki kez verilmediği ve
+// tüm görevlerin IN_PROGRESS olduğu doğrulanır, aksi halde benchmark hata ile durur.
+//
+// Uygulama context'i PostgreSQL container'ına bağlanarak tam olarak açılır (TaskService yan etkileri dahil).
+// Docker gerektirir; varsayılan benchmark çalıştırmasına dahil değildir (pom.xml benchmark profiline bakın).
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskClaimQueueBenchmark {
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int workers;
+
+    @Param({"20000"})
+    private int tasks;
+
+    @Param({"10"})
+    private int claimSize;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private TaskClaimQueue claimQueue;
+    private JdbcTemplate jdbcTemplate;
+    private ExecutorService workerPool;
+    private Set<UUID> claimedIds;
+    private AtomicInteger duplicateClaims;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+                .withCommand("postgres", "-c", "max_connections=200");
+        postgres.start();
+
+        String r2dbcUrl = "r2dbc:postgresql://%s:%d/%s".formatted(
+                postgres.getHost(), postgres.getFirstMappedPort(), postgres.getDatabaseName());
+        context = new SpringApplicationBuilder(TaskManagerAppApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.datasource.hikari.maximum-pool-size=" + (workers + 8),
+                        "spring.r2dbc.url=" + r2dbcUrl,
+                        "spring.r2dbc.username=" + postgres.getUsername(),
+                        "spring.r2dbc.password=" + postgres.getPassword(),
+                        "task.overdue.initial-delay=PT24H",
+                        "logging.level.root=WARN")
+                .run();
+        claimQueue = context.getBean(TaskClaimQueue.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        workerPool = Executors.newFixedThreadPool(workers);
+    }
+
+    @Setup(Level.Iteration)
+    public void seedPendingTasks() throws InterruptedException {
+        jdbcTemplate.execute("TRUNCATE tasks");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            rows.add(new Object[]{TimeOrderedUuid.next(), "Claim task " + i, now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tasks (id, title, status, created_at, updated_at, priority_value, priority_label, version)
+                VALUES (?, ?, 'PENDING', ?, ?, 1, 'Low', 0)
+                """, rows);
+        jdbcTemplate.execute("ANALYZE tasks");
+
+        claimedIds = ConcurrentHashMap.newKeySet(tasks);
+        duplicateClaims = new AtomicInteger();
+        // Önceki iterasyondan kalan "görev yok" durumu refresh-interval sonunda düşer
+        Thread.sleep(1_100);
+    }
+
+    @Benchmark
+    public int claimAll() throws Exception {
+        List<Future<?>> running = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            running.add(workerPool.submit(() -> {
+                List<TaskSummary> claimed;
+                while (!(claimed = claimQueue.claim(claimSize)).isEmpty()) {
+                    for (TaskSummary task : claimed) {
+                        if (!claimedIds.add(task.id())) {
+                            duplicateClaims.incrementAndGet();
+                        }
+                    }
+                }
+            }));
+        }
+        for (Future<?> worker : running) {
+            worker.get();
+        }
+        return claimedIds.size();
+    }
+
+    @TearDown(Level.Iteration)
+    public void verifyNoDoubleClaims() {
+        Integer inProgress = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tasks WHERE status = 'IN_PROGRESS'", Integer.class);
+        System.out.printf("%n%d workers: %d claimed, %d double claims, %d IN_PROGRESS rows%n",
+                workers, claimedIds.size(), duplicateClaims.get(), inProgress);
+        if (duplicateClaims.get() != 0 || claimedIds.size() != tasks || inProgress == null || inProgress != tasks) {
+            throw new IllegalStateException("Claim verification failed: " + duplicateClaims.get()
+                    + " double claims, " + claimedIds.size() + "/" + tasks + " tasks claimed.");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        workerPool.shutdownNow();
+        context.close();
+        postgres.stop();
+    }
+}
@@ -0,0 +1,134 @@
+package com.nurbb.taskmanagerapp.benchmark;
+
+import com.nurbb.taskmanagerapp.model.entity.TimeOrderedUuid;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// tasks tablosuna on milyonlarca satır insert: UUID.randomUUID() ile zaman sıralı (UUIDv7) id karşılaştırması.
+// Satırlar uygulamadaki gibi JDBC batch (reWriteBatchedInserts) ile yazılır, her batch ayrı commit edilir.
+// Skor tüm insert'lerin süresidir (satır/sn = rows / skor). Her iterasyon sonunda PK index boyutu yazdırılır:
+// rastgele id'lerde sayfa bölünmeleri index'i şişirir ve shared_buffers'a sığmayan sayfalar diskten okunur.
+//
+// Docker ile PostgreSQL container'ı başlatır; mevcut bir veritabanı için -Dbenchmark.jdbc-url (+ -user / -password).
+// Varsayılan benchmark çalıştırmasına dahil değildir (pom.xml benchmark profiline bakın).
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskIdInsertBenchmark {
+
+    public enum IdStrategy {
+        RANDOM(UUID::randomUUID),
+        TIME_ORDERED(TimeOrderedUuid::next);
+
+        private final Supplier<UUID> generator;
+
+        IdStrategy(Supplier<UUID> generator) {
+            this.generator = generator;
+        }
+    }
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    private IdStrategy idStrategy;
+
+    @Param({"10000000", "20000000"})
+    private int rows;
+
+    @Param({"1000"})
+    private int batchSize;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void startDatabase() throws SQLException {
+        String url = System.getProperty("benchmark.jdbc-url");
+        String user = System.getProperty("benchmark.jdbc-user", "postgres");
+        String password = System.getProperty("benchmark.jdbc-password", "postgres");
+        if (url == null) {
+            postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withCommand("postgres", "-c", "max_wal_size=4GB");
+            postgres.start();
+            url = postgres.getJdbcUrl();
+            user = postgres.getUsername();
+            password = postgres.getPassword();
+        }
+
+        Flyway.configure().dataSource(url, user, password).load().migrate();
+
+        connection = DriverManager.getConnection(url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true",
+                user, password);
+        connection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE tasks");
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    public int insert() throws SQLException {
+        Supplier<UUID> ids = idStrategy.generator;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement insert = connection.prepareStatement("""
+                INSERT INTO tasks (id, title, description, status, created_at, updated_at,
+                                   priority_value, priority_label, version)
+                VALUES (?, ?, ?, 'PENDING', ?, ?, 1, 'Low', 0)
+                """)) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "Benchmark task " + i);
+                insert.setString(3, "Task inserted by the id benchmark");
+                insert.setTimestamp(4, now);
+                insert.setTimestamp(5, now);
+                insert.addBatch();
+                if (i % batchSize == 0 || i == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        return rows;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printIndexSize() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("""
+                     SELECT pg_size_pretty(pg_relation_size('tasks_pkey')),
+                            pg_size_pretty(pg_relation_size('tasks'))
+                     """)) {
+            resultSet.next();
+            System.out.printf("%n%s, %d rows: primary key index %s, table %s%n",
+                    idStrategy, rows, resultSet.getString(1), resultSet.getString(2));
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() throws SQLException {
+        connection.close();
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+}
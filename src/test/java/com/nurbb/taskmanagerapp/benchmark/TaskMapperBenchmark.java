@@ -0,0 +1,76 @@
+package com.nurbb.taskmanagerapp.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nurbb.taskmanagerapp.model.dto.response.TaskResponseDTO;
+import com.nurbb.taskmanagerapp.model.entity.Task;
+import com.nurbb.taskmanagerapp.model.mapper.ManualTaskMapper;
+import com.nurbb.taskmanagerapp.model.mapper.TaskResponseMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Elle yazılmış mapper ile MapStruct'ın ürettiği mapper karşılaştırması, tekil ve liste dönüşümü,
+// ve DTO listesinin JSON'a yazılması (byte[] olarak, HTTP response'a yazılan çıktıyla aynı)
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskMapperBenchmark {
+
+    @Param({"50", "500"})
+    private int listSize;
+
+    private Task task;
+    private List<Task> tasks;
+    private List<TaskResponseDTO> dtos;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        Task.TaskStatus[] statuses = Task.TaskStatus.values();
+        tasks = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            tasks.add(Task.builder()
+                    .title("Task " + i)
+                    .description("Description " + i)
+                    .status(statuses[i % statuses.length])
+                    .build());
+        }
+        task = tasks.getFirst();
+        dtos = TaskResponseMapper.INSTANCE.toDTOList(tasks);
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+    }
+
+    @Benchmark
+    public TaskResponseDTO manualToDTO() {
+        return ManualTaskMapper.toDTO(task);
+    }
+
+    @Benchmark
+    public TaskResponseDTO mapStructToDTO() {
+        return TaskResponseMapper.INSTANCE.toDTO(task);
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> manualToDTOList() {
+        return tasks.stream()
+                .map(ManualTaskMapper::toDTO)
+                .toList();
+    }
+
+    @Benchmark
+    public List<TaskResponseDTO> mapStructToDTOList() {
+        return TaskResponseMapper.INSTANCE.toDTOList(tasks);
+    }
+
+    @Benchmark
+    public byte[] serializeDTOList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+}
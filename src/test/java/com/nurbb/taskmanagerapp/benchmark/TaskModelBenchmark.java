@@ -0,0 +1,39 @@
+package com.nurbb.taskmanagerapp.benchmark;
+
+import com.nurbb.taskmanagerapp.model.entity.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Task.updateStatus (Lombok withStatus kopyası + priority yeniden hesaplama) ve getPriority() maliyeti.
+// gc.alloc.rate.norm çağrı başına ayrılan byte'ı gösterir.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskModelBenchmark {
+
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        task = Task.builder()
+                .title("Benchmark task")
+                .description("Task used by the model benchmarks")
+                .status(Task.TaskStatus.IN_PROGRESS)
+                .build();
+    }
+
+    @Benchmark
+    public Task updateStatus() {
+        return task.updateStatus(Task.TaskStatus.COMPLETED);
+    }
+
+    @Benchmark
+    public Task.Priority getPriority() {
+        return task.getPriority();
+    }
+}
@@ -0,0 +1,64 @@
+package com.nurbb.taskmanagerapp.benchmark;
+
+import com.nurbb.taskmanagerapp.repository.TaskRepository;
+import com.nurbb.taskmanagerapp.service.ConcurrencyRetryPolicy;
+import com.nurbb.taskmanagerapp.service.TaskCache;
+import com.nurbb.taskmanagerapp.service.TaskChangeFeed;
+import com.nurbb.taskmanagerapp.service.TaskService;
+import com.nurbb.taskmanagerapp.service.TaskStatisticsTracker;
+import com.nurbb.taskmanagerapp.service.TaskTitleIndex;
+import com.nurbb.taskmanagerapp.service.event.TaskEventDispatcher;
+import com.nurbb.taskmanagerapp.service.outbox.TaskOutboxWriter;
+import jakarta.persistence.EntityManager;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// TaskService.analyzeTaskDuration: record pattern + guard'lı switch ile sınıflandırma.
+// Metot hiçbir bağımlılığı kullanmadığı için servis mock bağımlılıklarla oluşturulur.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskServiceBenchmark {
+
+    @Param({"100", "10000"})
+    private int durationCount;
+
+    private TaskService taskService;
+    private List<TaskService.TaskDuration> durations;
+
+    @Setup
+    public void setUp() {
+        taskService = new TaskService(
+                Mockito.mock(TaskRepository.class),
+                Mockito.mock(TaskStatisticsTracker.class),
+                Mockito.mock(TaskTitleIndex.class),
+                Mockito.mock(TaskCache.class),
+                Mockito.mock(EntityManager.class),
+                Mockito.mock(TransactionTemplate.class),
+                Mockito.mock(ConcurrencyRetryPolicy.class),
+                Mockito.mock(TaskEventDispatcher.class),
+                Mockito.mock(TaskOutboxWriter.class),
+                Mockito.mock(TaskChangeFeed.class));
+
+        durations = new ArrayList<>(durationCount);
+        for (int i = 0; i < durationCount; i++) {
+            durations.add(new TaskService.TaskDuration(UUID.randomUUID(), Duration.ofMinutes(i % 720)));
+        }
+    }
+
+    @Benchmark
+    public List<String> analyzeTaskDuration() {
+        return taskService.analyzeTaskDuration(durations);
+    }
+}
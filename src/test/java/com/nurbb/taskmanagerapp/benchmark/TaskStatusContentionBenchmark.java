@@ -0,0 +1,118 @@
+package com.nurbb.taskmanagerapp.benchmark;
+
+import com.nurbb.taskmanagerapp.TaskManagerAppApplication;
+import com.nurbb.taskmanagerapp.model.entity.Task;
+import com.nurbb.taskmanagerapp.model.exception.TaskVersionConflictException;
+import com.nurbb.taskmanagerapp.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Sıcak görev çekişmesi: THREADS thread aynı anda yalnızca hotTasks kadar görevin status'unu değiştirir.
+//  - LAST_WRITER_WINS: version'sız şartlı UPDATE (PATCH /tasks/{id}/status, version alanı boş)
+//  - OPTIMISTIC: GET ile okunan version geri gönderilir; arada değişen görev için TaskVersionConflictException (409)
+// Throughput ve SampleTime (p50 / p99 / p99.9) birlikte raporlanır; "updated" / "conflicts" sayaçları
+// optimistic modda reddedilen isteklerin oranını gösterir. hotTasks azaldıkça satır kilidi beklemesi ve
+// çakışma oranı artar.
+//
+// Uygulama context'i PostgreSQL container'ına bağlanarak tam olarak açılır (retry politikası ve cache dahil).
+// Docker gerektirir; varsayılan benchmark çalıştırmasına dahil değildir (pom.xml benchmark profiline bakın).
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(TaskStatusContentionBenchmark.THREADS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskStatusContentionBenchmark {
+
+    static final int THREADS = 16;
+
+    public enum WriteMode {
+        LAST_WRITER_WINS,
+        OPTIMISTIC
+    }
+
+    @Param({"1", "4", "64"})
+    private int hotTasks;
+
+    @Param({"LAST_WRITER_WINS", "OPTIMISTIC"})
+    private WriteMode writeMode;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private List<UUID> hotTaskIds;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long updated;
+        public long conflicts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            updated = 0;
+            conflicts = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+                .withCommand("postgres", "-c", "max_connections=200");
+        postgres.start();
+
+        String r2dbcUrl = "r2dbc:postgresql://%s:%d/%s".formatted(
+                postgres.getHost(), postgres.getFirstMappedPort(), postgres.getDatabaseName());
+        context = new SpringApplicationBuilder(TaskManagerAppApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.datasource.hikari.maximum-pool-size=" + (THREADS + 8),
+                        "spring.r2dbc.url=" + r2dbcUrl,
+                        "spring.r2dbc.username=" + postgres.getUsername(),
+                        "spring.r2dbc.password=" + postgres.getPassword(),
+                        "task.overdue.initial-delay=PT24H",
+                        "logging.level.root=WARN")
+                .run();
+        taskService = context.getBean(TaskService.class);
+
+        hotTaskIds = new ArrayList<>(hotTasks);
+        for (int i = 0; i < hotTasks; i++) {
+            hotTaskIds.add(taskService.createTask("Hot task " + i, "contention").id());
+        }
+    }
+
+    @Benchmark
+    public Task updateHotTask(Outcomes outcomes) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID id = hotTaskIds.get(random.nextInt(hotTasks));
+        Task.TaskStatus newStatus = random.nextBoolean() ? Task.TaskStatus.PENDING : Task.TaskStatus.IN_PROGRESS;
+        try {
+            Long expectedVersion = writeMode == WriteMode.OPTIMISTIC ? taskService.getTaskById(id).version() : null;
+            Task updated = taskService.updateTaskStatus(id, newStatus, expectedVersion);
+            outcomes.updated++;
+            return updated;
+        } catch (TaskVersionConflictException e) {
+            outcomes.conflicts++;
+            return null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+        postgres.stop();
+    }
+}
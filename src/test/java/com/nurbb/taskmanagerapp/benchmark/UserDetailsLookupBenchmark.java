@@ -0,0 +1,110 @@
+package com.nurbb.taskmanagerapp.benchmark;
+
+import com.nurbb.taskmanagerapp.model.entity.AppUser;
+import com.nurbb.taskmanagerapp.repository.UserRepository;
+import com.nurbb.taskmanagerapp.security.CustomUserDetailsService;
+import com.nurbb.taskmanagerapp.security.JwtAuthenticationFilter;
+import com.nurbb.taskmanagerapp.security.JwtUtil;
+import com.nurbb.taskmanagerapp.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// JwtAuthenticationFilter'ın her istekte yaptığı kullanıcı araması, iki uygulamayla:
+//  - CACHED: CustomUserDetailsService (app_users + Caffeine cache), cache hit yolu
+//  - BCRYPT_PER_CALL: eski servis, her çağrıda sabit şifreyi yeniden BCrypt ile hash'ler (baseline)
+// loadUserByUsername yalnızca aramayı, authenticateRequest Bearer token'lı bir isteğin filtreden geçişini
+// (JWT doğrulama cache'i + arama + SecurityContext) ölçer; 1 / skor filtre başına kimliği doğrulanmış istek/sn'dir.
+// Repository mock'tur; ölçülen şey SQL değil, cache / BCrypt ve User nesnesi oluşturma maliyetidir.
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserDetailsLookupBenchmark {
+
+    private static final String USERNAME = "benchmark-user";
+
+    public enum Lookup {
+        CACHED, BCRYPT_PER_CALL
+    }
+
+    @Param({"CACHED", "BCRYPT_PER_CALL"})
+    private Lookup lookup;
+
+    private UserDetailsService userDetailsService;
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        userDetailsService = switch (lookup) {
+            case CACHED -> cachedService();
+            case BCRYPT_PER_CALL -> UserDetailsLookupBenchmark::encodePerCall;
+        };
+        JwtUtil jwtUtil = new JwtUtil(new VerifiedTokenCache(10_000), new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService);
+        authorization = "Bearer " + jwtUtil.generateToken(User.withUsername(USERNAME)
+                .password("{noop}password")
+                .roles("USER")
+                .build());
+    }
+
+    private static CustomUserDetailsService cachedService() {
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(AppUser.builder()
+                .username(USERNAME)
+                .passwordHash(passwordEncoder.encode("password"))
+                .role("USER")
+                .build()));
+        return new CustomUserDetailsService(
+                userRepository, passwordEncoder, new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(5));
+    }
+
+    // Değişiklik öncesi CustomUserDetailsService.loadUserByUsername
+    private static UserDetails encodePerCall(String username) {
+        if (!username.equals(USERNAME)) {
+            throw new UsernameNotFoundException("User not found");
+        }
+        return User.builder()
+                .username(USERNAME)
+                .password(new BCryptPasswordEncoder().encode("password"))
+                .roles("USER")
+                .build();
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userDetailsService.loadUserByUsername(USERNAME);
+    }
+
+    @Benchmark
+    public Object authenticateRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.nurbb.taskmanagerapp.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SqlStatementMonitorTests {
+
+    private final SqlStatementMonitor monitor = new SqlStatementMonitor(3, Duration.ofSeconds(1), Duration.ofSeconds(1), 2);
+
+    @Test
+    void countsStatementsRowsAndRepeatsPerRecording() throws Exception {
+        DataSource dataSource = proxiedDataSource();
+
+        try (SqlStatementMonitor.Recording recording = monitor.start()) {
+            for (int i = 0; i < 2; i++) {
+                query(dataSource, "SELECT * FROM tasks WHERE id = ?");
+            }
+            query(dataSource, "SELECT COUNT(*) FROM tasks");
+
+            SqlStatistics statistics = recording.statistics();
+            assertThat(statistics.statementCount()).isEqualTo(3);
+            assertThat(statistics.rowsFetched()).isEqualTo(6);
+            assertThat(statistics.maxRepeatCount()).isEqualTo(2);
+            assertThat(monitor.violations(statistics))
+                    .singleElement().asString().startsWith("repeated 2x");
+        }
+    }
+
+    @Test
+    void ignoresStatementsOutsideOfRecordings() throws Exception {
+        DataSource dataSource = proxiedDataSource();
+        query(dataSource, "SELECT 1");
+
+        try (SqlStatementMonitor.Recording recording = monitor.start()) {
+            assertThat(recording.statistics().statementCount()).isZero();
+        }
+    }
+
+    private DataSource proxiedDataSource() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenAnswer(invocation -> {
+            ResultSet resultSet = mock(ResultSet.class);
+            when(resultSet.next()).thenReturn(true, true, false);
+            return resultSet;
+        });
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("sqlStatementMonitor", monitor);
+        return (DataSource) new SqlStatementMonitorPostProcessor(beanFactory.getBeanProvider(SqlStatementMonitor.class))
+                .postProcessAfterInitialization(target, "dataSource");
+    }
+
+    private static void query(DataSource dataSource, String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                // satırlar yalnızca sayılır
+            }
+        }
+    }
+}
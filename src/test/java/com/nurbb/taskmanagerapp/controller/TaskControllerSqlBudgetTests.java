@@ -0,0 +1,94 @@
+package com.nurbb.taskmanagerapp.controller;
+
+import com.nurbb.taskmanagerapp.config.SqlStatementMonitor;
+import com.nurbb.taskmanagerapp.security.CustomUserDetailsService;
+import com.nurbb.taskmanagerapp.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Endpoint başına SQL ifadesi bütçesi: istek MockMvc ile test thread'inde çalıştığı için SqlStatementMonitor
+// kaydı, filtrelerden controller'a kadar çalışan tüm ifadeleri görür.
+// Kullanıcı araması bütçeye girmesin diye token ve cache kayıt başlamadan hazırlanır.
+// Docker yoksa test atlanır.
+
+@SpringBootTest(properties = "task.overdue.initial-delay=PT24H")
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class TaskControllerSqlBudgetTests {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(
+                POSTGRES.getHost(), POSTGRES.getFirstMappedPort(), POSTGRES.getDatabaseName()));
+        registry.add("spring.r2dbc.username", POSTGRES::getUsername);
+        registry.add("spring.r2dbc.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SqlStatementMonitor sqlStatementMonitor;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private String authorization;
+
+    // CustomUserDetailsService açılışta varsayılan kullanıcıyı (user / password) oluşturur
+    @BeforeEach
+    void authenticate() {
+        authorization = "Bearer " + jwtUtil.generateToken(userDetailsService.loadUserByUsername("user"));
+    }
+
+    // İstatistikler bellekteki sayaçlardan döner (TaskStatisticsTracker)
+    @Test
+    void taskStatisticsRunsNoStatements() throws Exception {
+        try (SqlStatementMonitor.Recording recording = sqlStatementMonitor.start()) {
+            mockMvc.perform(get("/tasks/statistics").header("Authorization", authorization))
+                    .andExpect(status().isOk());
+            assertThat(recording.statistics().statementCount()).isZero();
+        }
+    }
+
+    @Test
+    void taskStatusStatisticsRunsNoStatements() throws Exception {
+        try (SqlStatementMonitor.Recording recording = sqlStatementMonitor.start()) {
+            mockMvc.perform(get("/tasks/status-statistics").header("Authorization", authorization))
+                    .andExpect(status().isOk());
+            assertThat(recording.statistics().statementCount()).isZero();
+        }
+    }
+
+    // Rapor tek bir GROUP BY ile sayılır
+    @Test
+    void reportRunsAtMostOneStatement() throws Exception {
+        try (SqlStatementMonitor.Recording recording = sqlStatementMonitor.start()) {
+            mockMvc.perform(get("/tasks/report").header("Authorization", authorization))
+                    .andExpect(status().isOk());
+            assertThat(recording.statistics().statementCount()).isLessThanOrEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.nurbb.taskmanagerapp.model.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedUuidTests {
+
+    @Test
+    void hasVersion7LayoutAndCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = TimeOrderedUuid.next();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(TimeOrderedUuid.timestampMillis(id)).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void staysStrictlyIncreasingAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 50_000;
+
+        List<Callable<List<UUID>>> generators = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            generators.add(() -> {
+                List<UUID> ids = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(TimeOrderedUuid.next());
+                }
+                return ids;
+            });
+        }
+
+        Set<UUID> all = new HashSet<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (Future<List<UUID>> result : executor.invokeAll(generators)) {
+                List<UUID> ids = result.get();
+                // Her thread'in gördüğü sıra artan olmalı; PostgreSQL uuid'leri byte sırasıyla karşılaştırır
+                for (int i = 1; i < ids.size(); i++) {
+                    assertThat(Long.compareUnsigned(ids.get(i - 1).getMostSignificantBits(),
+                            ids.get(i).getMostSignificantBits())).isNegative();
+                }
+                all.addAll(ids);
+            }
+        }
+        assertThat(all).hasSize(threads * perThread);
+    }
+}
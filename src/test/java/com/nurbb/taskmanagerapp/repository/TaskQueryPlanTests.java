@@ -0,0 +1,243 @@
+package com.nurbb.taskmanagerapp.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Migration'lar gerçek PostgreSQL'e uygulanır, tablo doldurulup ANALYZE edilir ve TaskRepository
+// sorgularının (Hibernate'in ürettiği SQL'in eşdeğeri) EXPLAIN planında beklenen index görülür.
+// Kısmi index'li sorgular ayrıca EXPLAIN (GENERIC_PLAN) ile, Hibernate'in gönderdiği gibi bind parametreleriyle
+// kontrol edilir: status parametre olursa planner kısmi index koşulunu kanıtlayamaz ve index'i kullanamaz.
+// Docker yoksa test atlanır.
+
+@Testcontainers(disabledWithoutDocker = true)
+class TaskQueryPlanTests {
+
+    private static final int ROWS = 100_000;
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+
+        // PENDING ve IN_PROGRESS %5'er, BLOCKED %0.1, kalanı COMPLETED; created_at saniye aralıklarla geriye doğru (~28 saat)
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO tasks (id, title, description, status, created_at, updated_at,
+                                       priority_value, priority_label, version)
+                    SELECT gen_random_uuid(),
+                           'Task ' || i,
+                           NULL,
+                           s.status,
+                           TIMESTAMP '2025-01-01 00:00:00' - i * INTERVAL '1 second',
+                           NULL,
+                           s.priority_value,
+                           s.priority_label,
+                           0
+                    FROM generate_series(1, %d) AS i
+                    CROSS JOIN LATERAL (
+                        SELECT CASE
+                                   WHEN i %% 20 = 0 THEN 'PENDING'
+                                   WHEN i %% 20 = 1 THEN 'IN_PROGRESS'
+                                   WHEN i %% 1000 = 2 THEN 'BLOCKED'
+                                   ELSE 'COMPLETED'
+                               END AS status
+                    ) st
+                    CROSS JOIN LATERAL (
+                        SELECT st.status,
+                               CASE st.status WHEN 'IN_PROGRESS' THEN 2 WHEN 'BLOCKED' THEN 3 ELSE 1 END AS priority_value,
+                               CASE st.status WHEN 'IN_PROGRESS' THEN 'Medium' WHEN 'BLOCKED' THEN 'High' ELSE 'Low' END AS priority_label
+                    ) s
+                    """.formatted(ROWS));
+            statement.execute("VACUUM ANALYZE tasks");
+        }
+    }
+
+    @Test
+    void findByStatusUsesStatusIndex() throws SQLException {
+        assertThat(explain("SELECT * FROM tasks WHERE status = 'BLOCKED'"))
+                .contains("idx_tasks_status_created_at_id");
+    }
+
+    @Test
+    void countByStatusIsIndexOnly() throws SQLException {
+        assertThat(explain("SELECT count(*) FROM tasks WHERE status = 'BLOCKED'"))
+                .contains("Index Only Scan using idx_tasks_status_created_at_id");
+    }
+
+    @Test
+    void keysetPageByStatusReadsIndexInOrder() throws SQLException {
+        String plan = explain("""
+                SELECT id, title, status, created_at, priority_value FROM tasks
+                WHERE status = 'PENDING'
+                AND (created_at > TIMESTAMP '2024-12-31 12:00:00'
+                     OR (created_at = TIMESTAMP '2024-12-31 12:00:00' AND id > '00000000-0000-0000-0000-000000000000'))
+                ORDER BY created_at ASC, id ASC
+                LIMIT 20
+                """);
+        assertThat(plan).contains("idx_tasks_status_created_at_id").doesNotContain("Sort");
+    }
+
+    @Test
+    void keysetFirstPageReadsCreatedAtIndexInOrder() throws SQLException {
+        String plan = explain("""
+                SELECT id, title, status, created_at, priority_value FROM tasks
+                ORDER BY created_at ASC, id ASC
+                LIMIT 20
+                """);
+        assertThat(plan).contains("idx_tasks_created_at_id").doesNotContain("Sort");
+    }
+
+    @Test
+    void findByCreatedAtBetweenUsesCreatedAtIndex() throws SQLException {
+        assertThat(explain("""
+                SELECT * FROM tasks
+                WHERE created_at BETWEEN TIMESTAMP '2024-12-31 10:00:00' AND TIMESTAMP '2024-12-31 11:00:00'
+                """))
+                .contains("idx_tasks_created_at_id");
+    }
+
+    @Test
+    void findLatestTaskScansCreatedAtIndexBackward() throws SQLException {
+        assertThat(explain("SELECT * FROM tasks ORDER BY created_at DESC LIMIT 1"))
+                .contains("Index Scan Backward using idx_tasks_created_at_id");
+    }
+
+    @Test
+    void overdueChunkReadsPartialOpenIndexInOrder() throws SQLException {
+        String plan = explain("""
+                SELECT id, title, status, created_at, priority_value FROM tasks
+                WHERE status <> 'COMPLETED'
+                AND created_at < TIMESTAMP '2024-12-30 21:00:00'
+                AND (created_at > TIMESTAMP '2024-12-30 20:30:00'
+                     OR (created_at = TIMESTAMP '2024-12-30 20:30:00' AND id > '00000000-0000-0000-0000-000000000000'))
+                ORDER BY created_at ASC, id ASC
+                LIMIT 500
+                """);
+        assertThat(plan).contains("idx_tasks_open_created_at_id").doesNotContain("Sort");
+    }
+
+    @Test
+    void findPriorityTasksToCompleteUsesPartialPriorityIndex() throws SQLException {
+        String plan = explain("""
+                SELECT * FROM tasks
+                WHERE status != 'COMPLETED'
+                AND priority_value >= 2
+                ORDER BY priority_value DESC, created_at ASC
+                LIMIT 10
+                """);
+        assertThat(plan).contains("idx_tasks_open_priority_created_at").doesNotContain("Sort");
+    }
+
+    @Test
+    void findTasksByPriorityValueUsesPriorityIndex() throws SQLException {
+        String plan = explain("""
+                SELECT id, title, status, created_at, priority_value FROM tasks
+                WHERE priority_value = 3
+                ORDER BY created_at DESC
+                """);
+        assertThat(plan).contains("idx_tasks_priority_value_created_at").doesNotContain("Sort");
+    }
+
+    @Test
+    void claimCandidatesReadPendingIndexInOrder() throws SQLException {
+        String plan = explain("""
+                SELECT id, title, status, created_at, priority_value FROM tasks
+                WHERE status = 'PENDING'
+                ORDER BY created_at ASC, id ASC
+                LIMIT 256
+                """);
+        assertThat(plan).contains("idx_tasks_pending_created_at_id").doesNotContain("Sort");
+    }
+
+    // Hibernate enum literal'ini SQL'e gömer (status<>'COMPLETED'), diğer değerler bind parametresidir
+    @Test
+    void overdueChunkWithBindParametersUsesPartialOpenIndex() throws SQLException {
+        String plan = explainGeneric("""
+                SELECT id, title, status, created_at, priority_value FROM tasks
+                WHERE status <> 'COMPLETED'
+                AND created_at < $1
+                AND (created_at > $2 OR (created_at = $2 AND id > $3))
+                ORDER BY created_at ASC, id ASC
+                LIMIT $4
+                """);
+        assertThat(plan).contains("idx_tasks_open_created_at_id");
+    }
+
+    @Test
+    void claimCandidatesWithBindParametersUsePendingIndex() throws SQLException {
+        String plan = explainGeneric("""
+                SELECT id, title, status, created_at, priority_value FROM tasks
+                WHERE status = 'PENDING'
+                ORDER BY created_at ASC, id ASC
+                LIMIT $1
+                """);
+        assertThat(plan).contains("idx_tasks_pending_created_at_id");
+    }
+
+    // Sorgular status'u parametre olarak gönderirse kısmi index'ler sessizce devre dışı kalır
+    @Test
+    void parameterisedStatusCannotUsePartialIndexes() throws SQLException {
+        assertThat(explainGeneric("""
+                SELECT id FROM tasks
+                WHERE status <> $1 AND created_at < $2
+                ORDER BY created_at ASC, id ASC
+                LIMIT $3
+                """)).doesNotContain("idx_tasks_open_created_at_id");
+        assertThat(explainGeneric("""
+                SELECT id FROM tasks
+                WHERE status = $1
+                ORDER BY created_at ASC, id ASC
+                LIMIT $2
+                """)).doesNotContain("idx_tasks_pending_created_at_id");
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Connection connection = connect()) {
+            return explain(connection, "EXPLAIN ", sql);
+        }
+    }
+
+    // PostgreSQL 16+: parametreli sorgunun generic (bind değerlerinden bağımsız) planı.
+    // $n'ler bağlanmadan gönderilmeli; extended protokol Bind'da değer bekleyeceği için simple query protokolü kullanılır.
+    private static String explainGeneric(String sql) throws SQLException {
+        String url = POSTGRES.getJdbcUrl();
+        try (Connection connection = DriverManager.getConnection(
+                url + (url.contains("?") ? "&" : "?") + "preferQueryMode=simple",
+                POSTGRES.getUsername(), POSTGRES.getPassword())) {
+            return explain(connection, "EXPLAIN (GENERIC_PLAN) ", sql);
+        }
+    }
+
+    private static String explain(Connection connection, String prefix, String sql) throws SQLException {
+        StringJoiner plan = new StringJoiner("\n");
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(prefix + sql)) {
+            while (resultSet.next()) {
+                plan.add(resultSet.getString(1));
+            }
+        }
+        return plan.toString();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -0,0 +1,167 @@
+package com.nurbb.taskmanagerapp.service;
+
+import com.nurbb.taskmanagerapp.model.entity.Task;
+import com.nurbb.taskmanagerapp.model.entity.TimeOrderedUuid;
+import com.nurbb.taskmanagerapp.model.projection.TaskSummary;
+import com.nurbb.taskmanagerapp.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Veritabanı yerine bellekteki bir PENDING tablosu: claimTasks, SKIP LOCKED UPDATE gibi yalnızca hâlâ
+// PENDING olan adayları atomik olarak alır.
+
+class TaskClaimQueueTests {
+
+    private final Map<UUID, TaskSummary> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger candidateQueries = new AtomicInteger();
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskService taskService = mock(TaskService.class);
+    private TaskClaimQueue claimQueue;
+
+    @BeforeEach
+    void setUp() {
+
+        when(taskRepository.findClaimCandidates(any(Limit.class))).thenAnswer(invocation -> {
+            candidateQueries.incrementAndGet();
+            Limit limit = invocation.getArgument(0);
+            return pending.values().stream()
+                    .sorted(Comparator.comparing(TaskSummary::createdAt).thenComparing(TaskSummary::id))
+                    .limit(limit.max())
+                    .toList();
+        });
+        when(taskService.claimTasks(anyCollection())).thenAnswer(invocation -> claimPending(invocation.getArgument(0)));
+
+        claimQueue = new TaskClaimQueue(taskRepository, taskService, new SimpleMeterRegistry(),
+                64, 16, Duration.ofSeconds(1));
+    }
+
+    @Test
+    void claimsOldestFirstWithoutQueryPerClaim() {
+        List<UUID> oldest = addPending(5, LocalDateTime.now().minusHours(1));
+        addPending(30, LocalDateTime.now());
+
+        List<TaskSummary> first = claimQueue.claim(5);
+        assertThat(first).extracting(TaskSummary::id).containsExactlyElementsOf(oldest);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(claimQueue.claim(2)).hasSize(2);
+        }
+        // 35 aday tek sorguyla heap'e sığar
+        assertThat(candidateQueries.get()).isEqualTo(1);
+        assertThat(pending).hasSize(20);
+    }
+
+    @Test
+    void concurrentWorkersNeverClaimTheSameTask() throws Exception {
+        int tasks = 5_000;
+        addPending(tasks, LocalDateTime.now());
+
+        Set<UUID> claimed = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                workers.add(executor.submit(() -> {
+                    List<TaskSummary> batch;
+                    while (!(batch = claimQueue.claim(10)).isEmpty()) {
+                        batch.forEach(task -> {
+                            if (!claimed.add(task.id())) {
+                                duplicates.incrementAndGet();
+                            }
+                        });
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+
+        assertThat(duplicates).hasValue(0);
+        assertThat(claimed).hasSize(tasks);
+        assertThat(pending).isEmpty();
+    }
+
+    // Bir worker'ın UPDATE'i sürerken onun adayları (inFlight) prefetch boyutunu doldurur;
+    // yenileme yine de sahiplenilmemiş daha yeni görevleri bulmalı, boş liste "iş yok" demektir.
+    @Test
+    void refillSkipsPastInFlightCandidates() throws Exception {
+        List<UUID> ids = addPending(20, LocalDateTime.now());
+        TaskClaimQueue smallQueue = new TaskClaimQueue(taskRepository, taskService, new SimpleMeterRegistry(),
+                8, 2, Duration.ofSeconds(1));
+
+        CountDownLatch firstClaimStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstClaim = new CountDownLatch(1);
+        AtomicBoolean firstClaim = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (firstClaim.compareAndSet(true, false)) {
+                firstClaimStarted.countDown();
+                releaseFirstClaim.await();
+            }
+            return claimPending(invocation.getArgument(0));
+        }).when(taskService).claimTasks(anyCollection());
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<List<TaskSummary>> blocked = executor.submit(() -> smallQueue.claim(8));
+            assertThat(firstClaimStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // En eski 8 görev (prefetch boyutu kadar) hâlâ sahiplenilmekte
+            assertThat(smallQueue.claim(6)).extracting(TaskSummary::id).containsExactlyElementsOf(ids.subList(8, 14));
+
+            releaseFirstClaim.countDown();
+            assertThat(blocked.get(5, TimeUnit.SECONDS)).extracting(TaskSummary::id)
+                    .containsExactlyElementsOf(ids.subList(0, 8));
+        }
+        assertThat(pending).hasSize(6);
+    }
+
+    private List<TaskSummary> claimPending(Collection<UUID> ids) {
+        List<TaskSummary> won = new ArrayList<>();
+        for (UUID id : ids) {
+            TaskSummary task = pending.remove(id);
+            if (task != null) {
+                won.add(task);
+            }
+        }
+        return won;
+    }
+
+    // PENDING görevlerin priority'si her zaman status'tan türeyen değerdir (LOW)
+    private List<UUID> addPending(int count, LocalDateTime createdAt) {
+        int priorityValue = Task.priorityFor(Task.TaskStatus.PENDING).getValue();
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UUID id = TimeOrderedUuid.next();
+            pending.put(id, new TaskSummary(id, "Task " + i, Task.TaskStatus.PENDING, createdAt, priorityValue));
+            ids.add(id);
+        }
+        return ids;
+    }
+}
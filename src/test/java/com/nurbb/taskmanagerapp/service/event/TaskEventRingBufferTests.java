@@ -0,0 +1,134 @@
+package com.nurbb.taskmanagerapp.service.event;
+
+import com.nurbb.taskmanagerapp.model.dto.response.TaskEventListenerStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Çok üreticili / çok tüketicili stres testleri: her olay benzersizdir (üretici * EVENTS_PER_PRODUCER + sıra),
+// böylece kayıp ve tekrar doğrudan sayılabilir. Kapasite küçük tutulur ki taşma yolu da sürekli çalışsın.
+
+class TaskEventRingBufferTests {
+
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+    private static final int EVENTS_PER_PRODUCER = 10_000;
+    private static final int TOTAL_EVENTS = PRODUCERS * EVENTS_PER_PRODUCER;
+
+    @Test
+    void concurrentProducersAndConsumersNeverLoseOrDuplicateItems() throws Exception {
+        TaskEventRingBuffer<Long> ring = new TaskEventRingBuffer<>(16);
+        Set<Long> received = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        AtomicInteger consumed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS)) {
+            for (int p = 0; p < PRODUCERS; p++) {
+                long base = (long) p * EVENTS_PER_PRODUCER;
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (long i = 0; i < EVENTS_PER_PRODUCER; i++) {
+                        while (!ring.offer(base + i)) {
+                            LockSupport.parkNanos(1_000);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < CONSUMERS; c++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    while (consumed.get() < TOTAL_EVENTS) {
+                        Long item = ring.poll();
+                        if (item == null) {
+                            LockSupport.parkNanos(1_000);
+                            continue;
+                        }
+                        consumed.incrementAndGet();
+                        if (!received.add(item)) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+
+        assertThat(duplicates).hasValue(0);
+        assertThat(received).hasSize(TOTAL_EVENTS);
+        assertThat(ring.size()).isZero();
+        assertThat(ring.poll()).isNull();
+    }
+
+    // BLOCK ve SPILL hiçbir olayı kaybetmez; DROP kaybettiği her olayı dropped'da sayar.
+    // Her politikada teslim edilen olaylar tekrarsızdır ve published = delivered + dropped (lag 0).
+    @ParameterizedTest
+    @EnumSource(OverflowPolicy.class)
+    void concurrentPublishersNeverDuplicateAndAccountForEveryEvent(OverflowPolicy policy) throws Exception {
+        Set<Long> received = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        TaskEventSubscription<Long> subscription = new TaskEventSubscription<>("stress", policy.name(), event -> {
+            if (!received.add(event)) {
+                duplicates.incrementAndGet();
+            }
+            // Yavaş listener: ring sık sık dolar, taşma yolu da çalışır
+            for (int i = 0; i < 50; i++) {
+                Thread.onSpinWait();
+            }
+        }, 16, 8, policy);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> producers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS)) {
+            for (int p = 0; p < PRODUCERS; p++) {
+                long base = (long) p * EVENTS_PER_PRODUCER;
+                producers.add(executor.submit(() -> {
+                    start.await();
+                    for (long i = 0; i < EVENTS_PER_PRODUCER; i++) {
+                        subscription.publish(base + i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> producer : producers) {
+                producer.get();
+            }
+        }
+        subscription.close(60_000);
+
+        TaskEventListenerStatistics statistics = subscription.statistics();
+        assertThat(duplicates).hasValue(0);
+        assertThat(statistics.published()).isEqualTo(TOTAL_EVENTS);
+        assertThat(statistics.failed()).isZero();
+        assertThat(statistics.lag()).isZero();
+        assertThat(statistics.delivered()).isEqualTo(received.size());
+        assertThat(statistics.delivered() + statistics.dropped()).isEqualTo(TOTAL_EVENTS);
+        if (policy != OverflowPolicy.DROP) {
+            assertThat(statistics.dropped()).isZero();
+            assertThat(received).hasSize(TOTAL_EVENTS);
+        }
+        if (policy != OverflowPolicy.SPILL) {
+            assertThat(statistics.spilled()).isZero();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.nurbb.taskmanagerapp.service.outbox;
+
+import com.nurbb.taskmanagerapp.model.entity.Task;
+import com.nurbb.taskmanagerapp.model.entity.TaskOutboxEvent;
+import com.nurbb.taskmanagerapp.model.entity.TimeOrderedUuid;
+import com.nurbb.taskmanagerapp.repository.TaskOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Repository mock'lanır; transaction'lar mock bir PlatformTransactionManager ile yalnızca callback'i çalıştırır.
+
+class TaskOutboxRelayTests {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 10;
+
+    private TaskOutboxRepository outboxRepository;
+    private TaskOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(TaskOutboxRepository.class);
+        relay = new TaskOutboxRelay(outboxRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new StaticListableBeanFactory().getBeanProvider(TaskOutboxConsumer.class),
+                new SimpleMeterRegistry(),
+                BATCH_SIZE, 1, MAX_ATTEMPTS,
+                Duration.ofMinutes(1), Duration.ofSeconds(1), Duration.ofSeconds(10));
+    }
+
+    @Test
+    void deliversLeasedEventsAndDeletesThem() {
+        when(outboxRepository.lockNextBatch(any(), anyInt())).thenReturn(List.of(event(1L, 0), event(2L, 0)));
+        List<Long> received = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.now();
+        relay.register(event -> {
+            // Teslimat sırasında satır lease'tedir: başka bir relay lease bitene kadar seçmez
+            assertThat(event.getNextAttemptAt()).isAfterOrEqualTo(start.plusMinutes(1));
+            received.add(event.getId());
+        });
+
+        TaskOutboxRelay.BatchResult result = relay.relayBatch();
+
+        assertThat(result).isEqualTo(new TaskOutboxRelay.BatchResult(2, 2));
+        assertThat(received).containsExactly(1L, 2L);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxRepository, never()).recordFailure(anyLong(), any(), any());
+    }
+
+    @Test
+    void failedDeliveryIsRescheduledWithExponentialBackoff() {
+        when(outboxRepository.lockNextBatch(any(), anyInt())).thenReturn(List.of(event(1L, 0), event(2L, 2)));
+        relay.register(event -> {
+            if (event.getId() == 2L) {
+                throw new IllegalStateException("consumer down");
+            }
+        });
+
+        LocalDateTime before = LocalDateTime.now();
+        TaskOutboxRelay.BatchResult result = relay.relayBatch();
+        LocalDateTime after = LocalDateTime.now();
+
+        assertThat(result).isEqualTo(new TaskOutboxRelay.BatchResult(2, 1));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+        ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxRepository).recordFailure(eq(2L), eq("consumer down"), nextAttempt.capture());
+        // Üçüncü başarısız deneme: 1s * 2^2
+        assertThat(nextAttempt.getValue()).isBetween(before.plusSeconds(4), after.plusSeconds(4));
+    }
+
+    @Test
+    void lastFailedAttemptMovesEventToDeadLetter() {
+        when(outboxRepository.lockNextBatch(any(), anyInt())).thenReturn(List.of(event(1L, MAX_ATTEMPTS - 1)));
+        relay.register(event -> {
+            throw new IllegalStateException("consumer down");
+        });
+
+        relay.relayBatch();
+
+        verify(outboxRepository).recordFailure(eq(1L), anyString(), isNull());
+        verify(outboxRepository, never()).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    void backoffIsCappedAtMaxBackoff() {
+        LocalDateTime failedAt = LocalDateTime.now();
+
+        assertThat(relay.nextAttemptAt(1, failedAt)).isEqualTo(failedAt.plusSeconds(1));
+        assertThat(relay.nextAttemptAt(4, failedAt)).isEqualTo(failedAt.plusSeconds(8));
+        assertThat(relay.nextAttemptAt(5, failedAt)).isEqualTo(failedAt.plusSeconds(10));
+        assertThat(relay.nextAttemptAt(MAX_ATTEMPTS, failedAt)).isNull();
+    }
+
+    @Test
+    void drainStopsWhenABatchDeliversNothing() {
+        // Tüketici çalışmıyorken tablo dolu olsa da aynı turda yeni batch kilitlenmez
+        when(outboxRepository.lockNextBatch(any(), anyInt())).thenAnswer(invocation -> List.of(event(1L, 0), event(2L, 0)));
+        relay.register(event -> {
+            throw new IllegalStateException("consumer down");
+        });
+
+        relay.drain();
+
+        verify(outboxRepository, times(1)).lockNextBatch(any(), anyInt());
+        verify(outboxRepository, times(2)).recordFailure(anyLong(), anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void drainContinuesWhileBatchesAreFull() {
+        when(outboxRepository.lockNextBatch(any(), anyInt()))
+                .thenReturn(List.of(event(1L, 0), event(2L, 0)))
+                .thenReturn(List.of(event(3L, 0)));
+        List<Long> received = new ArrayList<>();
+        relay.register(event -> received.add(event.getId()));
+
+        relay.drain();
+
+        verify(outboxRepository, times(2)).lockNextBatch(any(), anyInt());
+        assertThat(received).containsExactly(1L, 2L, 3L);
+    }
+
+    private static TaskOutboxEvent event(long id, int attempts) {
+        LocalDateTime createdAt = LocalDateTime.now().minusSeconds(5);
+        return TaskOutboxEvent.builder()
+                .id(id)
+                .taskId(TimeOrderedUuid.next())
+                .eventType(TaskOutboxEvent.EventType.TASK_CREATED)
+                .taskStatus(Task.TaskStatus.PENDING)
+                .createdAt(createdAt)
+                .attempts(attempts)
+                .nextAttemptAt(createdAt)
+                .build();
+    }
+}